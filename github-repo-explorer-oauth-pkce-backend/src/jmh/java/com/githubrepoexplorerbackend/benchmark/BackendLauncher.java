@@ -0,0 +1,44 @@
+package com.githubrepoexplorerbackend.benchmark;
+
+import com.githubrepoexplorerbackend.GithubRepoExplorerBackendApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Starts the real backend in-process for benchmarks: random port, private in-memory H2 database in
+ * PostgreSQL mode, and all GitHub urls pointed at a {@link GitHubStubServer}.
+ */
+final class BackendLauncher {
+
+    private BackendLauncher() {
+    }
+
+    static ConfigurableApplicationContext start(String githubBaseUrl, String... extraArgs) {
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                "--spring.datasource.url=jdbc:h2:mem:bench-" + UUID.randomUUID() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.show-sql=false",
+                "--spring.h2.console.enabled=false",
+                "--app.tracing.exporter=none",
+                "--app.rate-limit.enabled=false",
+                "--github.oauth.client-id=bench",
+                "--github.oauth.client-secret=bench",
+                "--github.oauth.token-url=" + githubBaseUrl + "/login/oauth/access_token",
+                "--github.api.base-url=" + githubBaseUrl
+        ));
+        args.addAll(List.of(extraArgs));
+        return SpringApplication.run(GithubRepoExplorerBackendApplication.class, args.toArray(String[]::new));
+    }
+
+    static int port(ConfigurableApplicationContext context) {
+        return ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+    }
+}
@@ -0,0 +1,197 @@
+package com.githubrepoexplorerbackend.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process stand-in for github.com / api.github.com used by the end-to-end benchmarks.
+ * <p>
+ * - POST /login/oauth/access_token returns access_token "token-{code}"
+ * - GET /user returns login "user-{code}" for that token (with ETag)
+ * - GET /user/repos serves pre-rendered fixture pages with Link, ETag and X-RateLimit-* headers and
+ *   answers If-None-Match with 304 (unless constructed with etags=false, modelling lists that changed)
+ * - POST /graphql answers the repository query with pre-rendered fixture pages, paginated by the
+ *   `first`/`after` variables (the cursor is the offset of the next repo)
+ * Response body bytes are counted (bytesServed) so benchmarks can report payload size.
+ * Every request sleeps for the configured latency to simulate the network round-trip to GitHub.
+ */
+final class GitHubStubServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final int repoCount;
+    private final long latencyMillis;
+    private final boolean etags;
+    private final Map<String, byte[]> pages = new HashMap<>();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong bytesServed = new AtomicLong();
+
+    GitHubStubServer(int repoCount, long latencyMillis) throws IOException {
+        this(repoCount, latencyMillis, true);
+    }
+
+    GitHubStubServer(int repoCount, long latencyMillis, boolean etags) throws IOException {
+        this.repoCount = repoCount;
+        this.latencyMillis = latencyMillis;
+        this.etags = etags;
+        // without TCP_NODELAY small responses sit out the client's delayed ACK (~40 ms), which would dwarf the injected latency
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        // the default keeps only 200 idle keep-alive connections and closes the rest, which a larger client pool then
+        // reuses and fails on ("failed to respond")
+        System.setProperty("sun.net.httpserver.maxIdleConnections", "10000");
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        server.setExecutor(executor);
+        server.createContext("/login/oauth/access_token", this::token);
+        server.createContext("/user/repos", this::repos);
+        server.createContext("/user", this::user);
+        server.createContext("/graphql", this::graphql);
+        server.start();
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /**
+     * Total response body bytes sent so far.
+     */
+    long bytesServed() {
+        return bytesServed.get();
+    }
+
+    private void token(HttpExchange exchange) throws IOException {
+        simulateLatency();
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        String code = jsonField(body, "code");
+        send(exchange, 200, Map.of(), ("{\"access_token\":\"token-" + code + "\",\"token_type\":\"bearer\",\"scope\":\"repo\"}")
+                .getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void user(HttpExchange exchange) throws IOException {
+        simulateLatency();
+        String auth = exchange.getRequestHeaders().getFirst("Authorization");
+        String token = auth == null ? "anonymous" : auth.substring(auth.indexOf(' ') + 1);
+        String login = token.startsWith("token-") ? "user-" + token.substring("token-".length()) : token;
+        String etag = "\"user-" + login + "\"";
+        if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+            send(exchange, 304, Map.of("ETag", etag), null);
+            return;
+        }
+        send(exchange, 200, Map.of("ETag", etag), ("{\"login\":\"" + login + "\",\"id\":1}").getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void repos(HttpExchange exchange) throws IOException {
+        simulateLatency();
+        Map<String, String> query = query(exchange.getRequestURI());
+        int perPage = Integer.parseInt(query.getOrDefault("per_page", "30"));
+        int page = Integer.parseInt(query.getOrDefault("page", "1"));
+        int lastPage = Math.max(1, (repoCount + perPage - 1) / perPage);
+
+        Map<String, String> headers = new HashMap<>();
+        String etag = "\"repos-" + repoCount + "-" + perPage + "-" + page + "\"";
+        headers.put("ETag", etag);
+        if (page < lastPage) {
+            String base = baseUrl() + "/user/repos?per_page=" + perPage;
+            headers.put("Link", "<" + base + "&page=" + (page + 1) + ">; rel=\"next\", <" + base + "&page=" + lastPage + ">; rel=\"last\"");
+        }
+        if (etags && etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+            send(exchange, 304, headers, null);
+            return;
+        }
+
+        byte[] body;
+        synchronized (pages) {
+            body = pages.computeIfAbsent(perPage + ":" + page, k -> {
+                int from = Math.min(repoCount, (page - 1) * perPage);
+                return RepoFixtures.reposJson(from, Math.min(repoCount, from + perPage));
+            });
+        }
+        send(exchange, 200, headers, body);
+    }
+
+    private void graphql(HttpExchange exchange) throws IOException {
+        simulateLatency();
+        JsonNode variables = objectMapper.readTree(exchange.getRequestBody()).path("variables");
+        int first = variables.path("first").asInt(100);
+        int from = variables.path("after").isTextual() ? Integer.parseInt(variables.path("after").asText()) : 0;
+        int to = Math.min(repoCount, from + first);
+        boolean hasNextPage = to < repoCount;
+
+        byte[] body;
+        synchronized (pages) {
+            body = pages.computeIfAbsent("graphql:" + first + ":" + from, k ->
+                    RepoFixtures.graphQlReposJson(from, to, hasNextPage, hasNextPage ? String.valueOf(to) : null));
+        }
+        send(exchange, 200, Map.of(), body);
+    }
+
+    private void send(HttpExchange exchange, int status, Map<String, String> headers, byte[] body) throws IOException {
+        try (InputStream ignored = exchange.getRequestBody(); OutputStream out = exchange.getResponseBody()) {
+            headers.forEach((name, value) -> exchange.getResponseHeaders().set(name, value));
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.getResponseHeaders().set("X-RateLimit-Remaining", "4999");
+            exchange.getResponseHeaders().set("X-RateLimit-Reset", String.valueOf(Instant.now().getEpochSecond() + 3600));
+            exchange.sendResponseHeaders(status, body == null ? -1 : body.length);
+            if (body != null) {
+                out.write(body);
+                bytesServed.addAndGet(body.length);
+            }
+        }
+    }
+
+    private void simulateLatency() {
+        if (latencyMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Map<String, String> query(URI uri) {
+        Map<String, String> params = new HashMap<>();
+        if (uri.getRawQuery() == null) {
+            return params;
+        }
+        for (String pair : uri.getRawQuery().split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                params.put(pair.substring(0, eq), pair.substring(eq + 1));
+            }
+        }
+        return params;
+    }
+
+    private static String jsonField(String json, String field) {
+        String marker = "\"" + field + "\":\"";
+        int start = json.indexOf(marker);
+        if (start < 0) {
+            return "unknown";
+        }
+        start += marker.length();
+        return json.substring(start, json.indexOf('"', start));
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
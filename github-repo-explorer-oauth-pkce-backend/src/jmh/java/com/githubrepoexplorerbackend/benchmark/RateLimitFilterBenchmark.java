@@ -0,0 +1,106 @@
+package com.githubrepoexplorerbackend.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.githubrepoexplorerbackend.filter.RateLimitFilter;
+import com.githubrepoexplorerbackend.filter.RateLimitProperties;
+import com.githubrepoexplorerbackend.filter.RateLimitProperties.Limit;
+import com.githubrepoexplorerbackend.filter.RateLimitProperties.Route;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Per-request overhead of RateLimitFilter under concurrency, for an authenticated GET /api/repos that passes
+ * the per-login, per-IP and global checks (the limits are set high enough never to reject).
+ * <p>
+ * {@code baseline} builds the same mock request/response and invokes the chain directly. keys=shared puts
+ * every thread on the same login and IP (all threads CAS the same two buckets); keys=perThread gives each
+ * thread its own. globalStripes=1 is an unstriped global bucket, 0 one stripe per processor.
+ * Run with more threads than the default, e.g. {@code -Djmh.args="RateLimitFilter -t 16"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class RateLimitFilterBenchmark {
+
+    @Param({"shared", "perThread"})
+    public String keys;
+
+    @Param({"1", "0"})
+    public int globalStripes;
+
+    private final AtomicInteger threadIds = new AtomicInteger();
+    private RateLimitFilter filter;
+    private FilterChain chain;
+
+    @State(Scope.Thread)
+    public static class Client {
+        String remoteAddr;
+
+        @Setup
+        public void setUp(RateLimitFilterBenchmark benchmark) {
+            String id = "perThread".equals(benchmark.keys) ? String.valueOf(benchmark.threadIds.incrementAndGet()) : "0";
+            remoteAddr = "10.0.0." + id;
+            // the filter reads the login from the (thread-local) SecurityContextHolder, as after Spring Security
+            SecurityContextHolder.getContext().setAuthentication(
+                    UsernamePasswordAuthenticationToken.authenticated("user-" + id, null, List.of()));
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        Limit unlimited = new Limit(1_000_000_000, Duration.ofNanos(1));
+        RateLimitProperties properties = new RateLimitProperties(true, unlimited, globalStripes, 100_000, List.of(
+                new Route("auth-exchange", "POST", "/api/auth/exchange", null, unlimited),
+                new Route("repos", null, "/api/repos/**", unlimited, unlimited)
+        ));
+        filter = new RateLimitFilter(properties, new ObjectMapper().findAndRegisterModules(), new SimpleMeterRegistry());
+        chain = (request, response) -> {
+        };
+    }
+
+    @Benchmark
+    public MockHttpServletResponse baseline(Client client) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/repos");
+        request.setRemoteAddr(client.remoteAddr);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        chain.doFilter(request, response);
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse rateLimited(Client client) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/repos");
+        request.setRemoteAddr(client.remoteAddr);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        if (response.getStatus() != 200) {
+            throw new IllegalStateException("Request was rate limited");
+        }
+        return response;
+    }
+}
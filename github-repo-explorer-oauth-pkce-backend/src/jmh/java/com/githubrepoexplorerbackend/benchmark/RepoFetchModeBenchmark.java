@@ -0,0 +1,126 @@
+package com.githubrepoexplorerbackend.benchmark;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end GET /api/repos latency and GitHub payload size per fetch mode (`github.api.fetch-mode`): REST
+ * /user/repos versus the GraphQL repository query, both replayed from recorded fixtures by the in-process stub.
+ * <p>
+ * Every request refetches from the stub (fresh-for=0). githubEtags=true lets REST pages revalidate with 304
+ * (an unchanged list); githubEtags=false makes every REST page a full 200 (a changed list). GraphQL has no
+ * conditional requests, so it is unaffected. The secondary result githubBytesPerRequest is the response body
+ * bytes the stub sent per GET /api/repos.
+ * <p>
+ * Try a higher latency to see cursor-sequential GraphQL pages against parallel REST pages:
+ * {@code -Djmh.args="RepoFetchMode -p githubLatencyMillis=100"}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@Threads(1)
+public class RepoFetchModeBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Backend {
+
+        @Param({"1000"})
+        public int repoCount;
+
+        @Param({"20"})
+        public long githubLatencyMillis;
+
+        @Param({"rest", "graphql"})
+        public String fetchMode;
+
+        @Param({"true", "false"})
+        public boolean githubEtags;
+
+        GitHubStubServer stub;
+        ConfigurableApplicationContext context;
+        HttpClient client;
+        HttpRequest reposRequest;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException, InterruptedException {
+            stub = new GitHubStubServer(repoCount, githubLatencyMillis, githubEtags);
+            context = BackendLauncher.start(stub.baseUrl(),
+                    "--github.api.fetch-mode=" + fetchMode,
+                    "--github.repo-cache.fresh-for=0s",
+                    "--github.repo-refresh.enabled=false");
+            String baseUrl = "http://127.0.0.1:" + BackendLauncher.port(context);
+
+            client = HttpClient.newBuilder()
+                    .cookieHandler(new CookieManager())
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .build();
+            HttpRequest exchange = HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/exchange"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            "{\"code\":\"fetch-mode\",\"codeVerifier\":\"verifier\",\"redirectUri\":\"http://localhost:4200/auth/callback\"}"))
+                    .build();
+            HttpResponse<Void> response = client.send(exchange, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Login failed with status " + response.statusCode());
+            }
+            reposRequest = HttpRequest.newBuilder(URI.create(baseUrl + "/api/repos")).GET().build();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            context.close();
+            stub.close();
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Traffic {
+        public long githubBytesPerRequest;
+
+        private long bytes;
+        private long requests;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+            requests = 0;
+        }
+    }
+
+    @Benchmark
+    public int myRepos(Backend backend, Traffic traffic) throws IOException, InterruptedException {
+        long before = backend.stub.bytesServed();
+        HttpResponse<byte[]> response = backend.client.send(backend.reposRequest, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET /api/repos failed with status " + response.statusCode());
+        }
+        traffic.bytes += backend.stub.bytesServed() - before;
+        traffic.githubBytesPerRequest = traffic.bytes / ++traffic.requests;
+        return response.body().length;
+    }
+}
@@ -0,0 +1,138 @@
+package com.githubrepoexplorerbackend.benchmark;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Generates GitHub-shaped /user/repos payloads for benchmarks.
+ * <p>
+ * Each repository object carries the same kinds of fields the real API returns (owner object, permissions,
+ * license, ~40 URL templates, timestamps, counters), so a repo is roughly 5-6 KB of JSON of which RepoSummary
+ * keeps six fields.
+ */
+final class RepoFixtures {
+
+    private static final String[] LANGUAGES = {"Java", "TypeScript", "Go", "Python", "Kotlin", null};
+
+    private static final String[] URL_FIELDS = {
+            "forks_url", "keys_url", "collaborators_url", "teams_url", "hooks_url", "issue_events_url", "events_url",
+            "assignees_url", "branches_url", "tags_url", "blobs_url", "git_tags_url", "git_refs_url", "trees_url",
+            "statuses_url", "languages_url", "stargazers_url", "contributors_url", "subscribers_url",
+            "subscription_url", "commits_url", "git_commits_url", "comments_url", "issue_comment_url",
+            "contents_url", "compare_url", "merges_url", "archive_url", "downloads_url", "issues_url", "pulls_url",
+            "milestones_url", "notifications_url", "labels_url", "releases_url", "deployments_url", "git_url",
+            "ssh_url", "clone_url", "svn_url"
+    };
+
+    private RepoFixtures() {
+    }
+
+    /**
+     * JSON array of repositories [from, to).
+     */
+    static byte[] reposJson(int from, int to) {
+        StringBuilder json = new StringBuilder((to - from) * 6000 + 2);
+        json.append('[');
+        for (int i = from; i < to; i++) {
+            if (i > from) {
+                json.append(',');
+            }
+            appendRepo(json, i);
+        }
+        json.append(']');
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    static byte[] reposJson(int count) {
+        return reposJson(0, count);
+    }
+
+    /**
+     * GraphQL response for the repository query (see ReposService) covering repositories [from, to), in the shape
+     * api.github.com/graphql returns: data.viewer.repositories.{nodes, pageInfo}. Same repos as reposJson.
+     */
+    static byte[] graphQlReposJson(int from, int to, boolean hasNextPage, String endCursor) {
+        StringBuilder json = new StringBuilder((to - from) * 200 + 200);
+        json.append("{\"data\":{\"viewer\":{\"repositories\":{\"nodes\":[");
+        for (int i = from; i < to; i++) {
+            if (i > from) {
+                json.append(',');
+            }
+            String name = "repo-" + i;
+            String language = language(i);
+            json.append("{\"name\":\"").append(name).append("\",")
+                    .append("\"nameWithOwner\":\"octo-org/").append(name).append("\",")
+                    .append("\"url\":\"https://github.com/octo-org/").append(name).append("\",")
+                    .append("\"description\":");
+            if (i % 4 == 0) {
+                json.append("null,");
+            } else {
+                json.append("\"Service number ").append(i).append(" for the explorer demo \\\"fixture\\\"\",");
+            }
+            json.append("\"stargazerCount\":").append(i * 31 % 5000).append(',')
+                    .append("\"primaryLanguage\":").append(language == null ? "null" : "{\"name\":\"" + language + "\"}")
+                    .append('}');
+        }
+        json.append("],\"pageInfo\":{\"hasNextPage\":").append(hasNextPage)
+                .append(",\"endCursor\":").append(endCursor == null ? "null" : "\"" + endCursor + "\"")
+                .append("}}}}}");
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    static String language(int i) {
+        return LANGUAGES[i % LANGUAGES.length];
+    }
+
+    private static void appendRepo(StringBuilder json, int i) {
+        String owner = "octo-org";
+        String name = "repo-" + i;
+        String fullName = owner + "/" + name;
+        String api = "https://api.github.com/repos/" + fullName;
+        String language = language(i);
+
+        json.append('{')
+                .append("\"id\":").append(100000 + i).append(',')
+                .append("\"node_id\":\"R_kgDO").append(Integer.toHexString(i * 7919)).append("\",")
+                .append("\"name\":\"").append(name).append("\",")
+                .append("\"full_name\":\"").append(fullName).append("\",")
+                .append("\"private\":").append(i % 5 == 0).append(',')
+                .append("\"owner\":{")
+                .append("\"login\":\"").append(owner).append("\",\"id\":4242,\"node_id\":\"O_kgDOAAB\",")
+                .append("\"avatar_url\":\"https://avatars.githubusercontent.com/u/4242?v=4\",\"gravatar_id\":\"\",")
+                .append("\"url\":\"https://api.github.com/users/").append(owner).append("\",")
+                .append("\"html_url\":\"https://github.com/").append(owner).append("\",")
+                .append("\"followers_url\":\"https://api.github.com/users/").append(owner).append("/followers\",")
+                .append("\"repos_url\":\"https://api.github.com/users/").append(owner).append("/repos\",")
+                .append("\"type\":\"Organization\",\"site_admin\":false},")
+                .append("\"html_url\":\"https://github.com/").append(fullName).append("\",")
+                .append("\"description\":");
+        if (i % 4 == 0) {
+            json.append("null,");
+        } else {
+            json.append("\"Service number ").append(i).append(" for the explorer demo \\\"fixture\\\"\",");
+        }
+        json.append("\"fork\":false,")
+                .append("\"url\":\"").append(api).append("\",");
+        for (String field : URL_FIELDS) {
+            json.append('"').append(field).append("\":\"").append(api).append('/').append(field, 0, field.length() - 4)
+                    .append("{/sha}\",");
+        }
+        json.append("\"created_at\":\"2019-03-0").append(i % 9 + 1).append("T10:15:30Z\",")
+                .append("\"updated_at\":\"2024-05-1").append(i % 9).append("T08:00:00Z\",")
+                .append("\"pushed_at\":\"2024-05-1").append(i % 9).append("T08:00:00Z\",")
+                .append("\"homepage\":null,\"size\":").append(i * 13 % 50000).append(',')
+                .append("\"stargazers_count\":").append(i * 31 % 5000).append(',')
+                .append("\"watchers_count\":").append(i * 31 % 5000).append(',')
+                .append("\"language\":").append(language == null ? "null" : "\"" + language + "\"").append(',')
+                .append("\"has_issues\":true,\"has_projects\":true,\"has_downloads\":true,\"has_wiki\":false,")
+                .append("\"has_pages\":false,\"has_discussions\":false,\"forks_count\":").append(i % 40).append(',')
+                .append("\"mirror_url\":null,\"archived\":false,\"disabled\":false,\"open_issues_count\":").append(i % 12).append(',')
+                .append("\"license\":{\"key\":\"mit\",\"name\":\"MIT License\",\"spdx_id\":\"MIT\",")
+                .append("\"url\":\"https://api.github.com/licenses/mit\",\"node_id\":\"MDc6TGljZW5zZTEz\"},")
+                .append("\"allow_forking\":true,\"is_template\":false,\"web_commit_signoff_required\":false,")
+                .append("\"topics\":[\"demo\",\"oauth\",\"pkce\"],\"visibility\":\"public\",")
+                .append("\"forks\":").append(i % 40).append(",\"open_issues\":").append(i % 12).append(',')
+                .append("\"watchers\":").append(i * 31 % 5000).append(",\"default_branch\":\"main\",")
+                .append("\"permissions\":{\"admin\":true,\"maintain\":true,\"push\":true,\"triage\":true,\"pull\":true}")
+                .append('}');
+    }
+}
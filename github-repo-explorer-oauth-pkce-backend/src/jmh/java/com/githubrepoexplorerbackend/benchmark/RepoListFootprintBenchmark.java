@@ -0,0 +1,142 @@
+package com.githubrepoexplorerbackend.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.githubrepoexplorerbackend.cache.CompactRepoList;
+import com.githubrepoexplorerbackend.cache.ConditionalResponseCache;
+import com.githubrepoexplorerbackend.cache.RepoListCache;
+import com.githubrepoexplorerbackend.dto.RepoSummary;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Heap retained by cached repo lists for many users: lists of RepoSummary records as the parser produces
+ * them (every String a separate object) versus CompactRepoList.
+ * <p>
+ * layout=perLogin measures everything the backend keeps per login after a REST fetch instead of the list
+ * alone: the RepoListCache entry (compact list plus its encoded response body) and one ConditionalResponseCache
+ * entry per /user/repos page of `github.api.per-page` repos, stored the way ReposService.fetchPage stores them.
+ * <p>
+ * Each invocation builds the lists for all users and reports the live heap they retain, measured after a
+ * full GC, as the secondary results retainedMB and bytesPerRepo. The timing itself is only the build time.
+ * The defaults (10,000 users x 500 repos) need the 3 GB heap the fork is given.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class RepoListFootprintBenchmark {
+
+    @Param({"10000"})
+    public int users;
+
+    @Param({"500"})
+    public int reposPerUser;
+
+    @Param({"records", "compact", "perLogin"})
+    public String layout;
+
+    private static final int PER_PAGE = 100;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        public long retainedMB;
+        public long bytesPerRepo;
+    }
+
+    @Benchmark
+    public Object cacheAllUsers(Footprint footprint) {
+        long before = usedHeapAfterGc();
+
+        Object retainedSet = "perLogin".equals(layout) ? cachePerLogin() : cacheLists();
+
+        long retained = usedHeapAfterGc() - before;
+        footprint.retainedMB = retained >> 20;
+        footprint.bytesPerRepo = retained / ((long) users * reposPerUser);
+        return retainedSet;
+    }
+
+    private List<List<RepoSummary>> cacheLists() {
+        List<List<RepoSummary>> lists = new ArrayList<>(users);
+        for (int user = 0; user < users; user++) {
+            List<RepoSummary> parsed = parsedRepos(user);
+            lists.add("compact".equals(layout) ? CompactRepoList.of(parsed) : Collections.unmodifiableList(parsed));
+        }
+        return lists;
+    }
+
+    /**
+     * Fill both caches as a REST fetch of every user's list does: each parsed page goes to the conditional
+     * cache under its url key, then the concatenated pages to RepoListCache.
+     */
+    private Object[] cachePerLogin() {
+        int pages = (reposPerUser + PER_PAGE - 1) / PER_PAGE;
+        Duration ttl = Duration.ofHours(1);
+        RepoListCache repoListCache = new RepoListCache(new ObjectMapper(), users, ttl);
+        ConditionalResponseCache responseCache = new ConditionalResponseCache(users * pages, ttl);
+
+        for (int user = 0; user < users; user++) {
+            List<RepoSummary> parsed = parsedRepos(user);
+            List<RepoSummary> fetched = new ArrayList<>(reposPerUser);
+            for (int page = 1; page <= pages; page++) {
+                List<RepoSummary> pageRepos = CompactRepoList.of(
+                        parsed.subList((page - 1) * PER_PAGE, Math.min(page * PER_PAGE, reposPerUser)));
+                responseCache.store("user-" + user + " https://api.github.com/user/repos?per_page=" + PER_PAGE + "&page=" + page,
+                        "\"" + Integer.toHexString(user) + "-" + page + "\"", pageRepos);
+                fetched.addAll(pageRepos);
+            }
+            repoListCache.put("user-" + user, fetched);
+        }
+        return new Object[]{repoListCache, responseCache};
+    }
+
+    /**
+     * One user's list with the object shape RepoSummaryJsonReader produces: distinct String instances for
+     * every field, including repeated languages. A third of the repos belong to an organization.
+     */
+    private List<RepoSummary> parsedRepos(int user) {
+        String login = "user-" + user;
+        String org = "org-" + (user % 100);
+        List<RepoSummary> repos = new ArrayList<>(reposPerUser);
+        for (int i = 0; i < reposPerUser; i++) {
+            String owner = i % 3 == 0 ? org : login;
+            String name = "repo-" + i;
+            String fullName = owner + "/" + name;
+            String language = RepoFixtures.language(i);
+            repos.add(new RepoSummary(
+                    name,
+                    fullName,
+                    "https://github.com/" + fullName,
+                    i % 4 == 0 ? null : "Service number " + i + " for the explorer demo",
+                    i * 31 % 5000,
+                    language == null ? null : new String(language)
+            ));
+        }
+        return repos;
+    }
+
+    private static long usedHeapAfterGc() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,88 @@
+package com.githubrepoexplorerbackend.benchmark;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.githubrepoexplorerbackend.cache.EncodedRepoList;
+import com.githubrepoexplorerbackend.dto.RepoSummary;
+import com.githubrepoexplorerbackend.service.RepoSummaryJsonReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.DigestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Producing the GET /api/repos body for a cached repo list: serializing the list (plus the ETag
+ * digest, plus gzip) on every request, as the controller did before, versus copying the bytes
+ * precomputed by EncodedRepoList when the list was cached. EncodedRepoList keeps only the gzip bytes, so
+ * {@code precomputed} (a client without gzip) inflates them per request. The body goes to a discarding
+ * stream standing in for the servlet output stream.
+ * <p>
+ * Run under concurrent load with {@code -t 8 -prof gc} to compare throughput and allocation
+ * (gc.alloc.rate, gc.alloc.rate.norm).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepoListResponseBenchmark {
+
+    @Param({"30", "1000", "5000"})
+    public int repoCount;
+
+    private final OutputStream out = OutputStream.nullOutputStream();
+
+    private ObjectMapper objectMapper;
+    private List<RepoSummary> repos;
+    private EncodedRepoList encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        repos = new RepoSummaryJsonReader(objectMapper)
+                .readArray(new ByteArrayInputStream(RepoFixtures.reposJson(repoCount)));
+        encoded = EncodedRepoList.encode(objectMapper, repos);
+    }
+
+    @Benchmark
+    public String serializePerRequest() throws IOException {
+        byte[] json = objectMapper.writeValueAsBytes(repos);
+        String etag = DigestUtils.md5DigestAsHex(json);
+        out.write(json);
+        return etag;
+    }
+
+    @Benchmark
+    public String serializeAndGzipPerRequest() throws IOException {
+        EncodedRepoList perRequest = EncodedRepoList.encode(objectMapper, repos);
+        out.write(perRequest.gzip());
+        return perRequest.gzipEtag();
+    }
+
+    @Benchmark
+    public String precomputed() throws IOException {
+        out.write(encoded.json());
+        return encoded.etag();
+    }
+
+    @Benchmark
+    public String precomputedGzip() throws IOException {
+        out.write(encoded.gzip());
+        return encoded.gzipEtag();
+    }
+}
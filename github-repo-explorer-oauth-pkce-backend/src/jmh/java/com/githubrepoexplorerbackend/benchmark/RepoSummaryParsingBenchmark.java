@@ -0,0 +1,66 @@
+package com.githubrepoexplorerbackend.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.githubrepoexplorerbackend.dto.RepoSummary;
+import com.githubrepoexplorerbackend.service.RepoSummaryJsonReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deserialization of a /user/repos payload into RepoSummary: full data binding (the original
+ * ParameterizedTypeReference path) versus the streaming RepoSummaryJsonReader.
+ * <p>
+ * Run with {@code -prof gc} to compare allocation per operation (gc.alloc.rate.norm).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepoSummaryParsingBenchmark {
+
+    private static final TypeReference<List<RepoSummary>> REPO_LIST = new TypeReference<>() {
+    };
+
+    @Param({"30", "1000", "10000"})
+    public int repoCount;
+
+    private byte[] payload;
+    private ObjectMapper objectMapper;
+    private RepoSummaryJsonReader streamingReader;
+
+    @Setup
+    public void setUp() {
+        payload = RepoFixtures.reposJson(repoCount);
+        // matches Spring Boot's default ObjectMapper configuration
+        objectMapper = new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        streamingReader = new RepoSummaryJsonReader(objectMapper);
+    }
+
+    @Benchmark
+    public List<RepoSummary> dataBinding() throws IOException {
+        return objectMapper.readValue(new ByteArrayInputStream(payload), REPO_LIST);
+    }
+
+    @Benchmark
+    public List<RepoSummary> streaming() throws IOException {
+        return streamingReader.readArray(new ByteArrayInputStream(payload));
+    }
+}
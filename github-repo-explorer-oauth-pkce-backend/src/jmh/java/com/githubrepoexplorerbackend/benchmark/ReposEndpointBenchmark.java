@@ -0,0 +1,127 @@
+package com.githubrepoexplorerbackend.benchmark;
+
+import com.githubrepoexplorerbackend.cache.RepoListCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end GET /api/repos over HTTP: real backend (security, session, controller, service, caches) in front of
+ * an in-process GitHub stub with injected latency.
+ * <p>
+ * Every request drops the user's cached list first, so it is answered by a GitHub fetch on the request path
+ * (page 1, then the remaining pages in parallel, each revalidated with its ETag) rather than from memory or by
+ * the stale-while-revalidate background refresh.
+ * <p>
+ * Every JMH thread logs in as its own GitHub user, so threads model independent concurrent users. Compare the
+ * servlet/outbound execution models and scaling with concurrency via, e.g.:
+ * {@code -Djmh.args="ReposEndpoint -p virtualThreads=false,true -t 50"} and again with {@code -t 400}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class ReposEndpointBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Backend {
+
+        @Param({"1000"})
+        public int repoCount;
+
+        @Param({"20"})
+        public long githubLatencyMillis;
+
+        @Param({"false", "true"})
+        public boolean virtualThreads;
+
+        GitHubStubServer stub;
+        ConfigurableApplicationContext context;
+        String baseUrl;
+        RepoListCache repoListCache;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            stub = new GitHubStubServer(repoCount, githubLatencyMillis);
+            context = BackendLauncher.start(stub.baseUrl(),
+                    "--spring.threads.virtual.enabled=" + virtualThreads,
+                    "--github.repo-refresh.enabled=false",
+                    // room for every user's page lanes (-t x max-parallel-pages) and no breaker trips on a saturated
+                    // machine: measure the thread model, not the connection pool, bulkhead or circuit breaker
+                    "--github.api.max-connections=10000",
+                    "--github.api.max-connections-per-route=10000",
+                    "--github.resilience.bulkhead.repos-max-concurrent=10000",
+                    "--github.resilience.circuit-breaker.slow-call-duration=1h",
+                    "--github.resilience.circuit-breaker.failure-rate-threshold=100");
+            baseUrl = "http://127.0.0.1:" + BackendLauncher.port(context);
+            repoListCache = context.getBean(RepoListCache.class);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            context.close();
+            stub.close();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class User {
+
+        HttpClient client;
+        HttpRequest reposRequest;
+        String githubLogin;
+
+        @Setup(Level.Trial)
+        public void login(Backend backend) throws IOException, InterruptedException {
+            client = HttpClient.newBuilder()
+                    .cookieHandler(new CookieManager())
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .build();
+
+            String code = UUID.randomUUID().toString();
+            githubLogin = "user-" + code;
+            HttpRequest exchange = HttpRequest.newBuilder(URI.create(backend.baseUrl + "/api/auth/exchange"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            "{\"code\":\"" + code + "\",\"codeVerifier\":\"verifier\",\"redirectUri\":\"http://localhost:4200/auth/callback\"}"))
+                    .build();
+            HttpResponse<Void> response = client.send(exchange, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Login failed with status " + response.statusCode());
+            }
+
+            reposRequest = HttpRequest.newBuilder(URI.create(backend.baseUrl + "/api/repos")).GET().build();
+        }
+    }
+
+    @Benchmark
+    public int myRepos(Backend backend, User user) throws IOException, InterruptedException {
+        backend.repoListCache.invalidate(user.githubLogin);
+        HttpResponse<byte[]> response = user.client.send(user.reposRequest, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET /api/repos failed with status " + response.statusCode());
+        }
+        return response.body().length;
+    }
+}
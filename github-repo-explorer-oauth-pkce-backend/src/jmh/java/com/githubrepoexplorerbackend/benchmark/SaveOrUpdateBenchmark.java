@@ -0,0 +1,71 @@
+package com.githubrepoexplorerbackend.benchmark;
+
+import com.githubrepoexplorerbackend.service.GitHubOAuthService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * GitHubOAuthService.saveOrUpdate against the real JPA stack on in-memory H2 (PostgreSQL mode).
+ * {@code update} rotates over a pre-populated set of logins; {@code insert} always creates a new login.
+ * Scale concurrency with JMH's {@code -t} option.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SaveOrUpdateBenchmark {
+
+    @Param({"1000"})
+    public int existingUsers;
+
+    private final AtomicLong counter = new AtomicLong();
+    private GitHubStubServer stub;
+    private ConfigurableApplicationContext context;
+    private GitHubOAuthService oAuthService;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        stub = new GitHubStubServer(0, 0);
+        context = BackendLauncher.start(stub.baseUrl());
+        oAuthService = context.getBean(GitHubOAuthService.class);
+        for (int i = 0; i < existingUsers; i++) {
+            oAuthService.saveOrUpdate("bench-user-" + i, "token-" + i, "bearer", "repo");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        stub.close();
+    }
+
+    @Benchmark
+    public void update() {
+        long n = counter.incrementAndGet();
+        oAuthService.saveOrUpdate("bench-user-" + (n % existingUsers), "token-" + n, "bearer", "repo");
+    }
+
+    @Benchmark
+    public void insert() {
+        long n = counter.incrementAndGet();
+        oAuthService.saveOrUpdate("new-user-" + n, "token-" + n, "bearer", "repo");
+    }
+}
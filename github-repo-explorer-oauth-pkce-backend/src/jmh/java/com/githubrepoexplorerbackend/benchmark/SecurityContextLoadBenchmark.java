@@ -0,0 +1,76 @@
+package com.githubrepoexplorerbackend.benchmark;
+
+import com.githubrepoexplorerbackend.security.SignedCookieSecurityContextRepository;
+import jakarta.servlet.http.Cookie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of restoring the authenticated SecurityContext: HttpSessionSecurityContextRepository
+ * (session attribute lookup; the container's session-id map lookup is not included) vs
+ * SignedCookieSecurityContextRepository (cookie HMAC-SHA256 verification).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SecurityContextLoadBenchmark {
+
+    private final HttpSessionSecurityContextRepository sessionRepository = new HttpSessionSecurityContextRepository();
+    private final SignedCookieSecurityContextRepository cookieRepository = new SignedCookieSecurityContextRepository(
+            "benchmark-signing-key-0123456789abcdef".getBytes(StandardCharsets.UTF_8),
+            "GRE_AUTH", Duration.ofHours(12), false, Clock.systemUTC());
+
+    private MockHttpServletRequest sessionRequest;
+    private MockHttpServletRequest cookieRequest;
+
+    @Setup
+    public void setUp() {
+        Authentication authentication = UsernamePasswordAuthenticationToken.authenticated(
+                "octocat", null, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(authentication);
+
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY, context);
+        sessionRequest = new MockHttpServletRequest();
+        sessionRequest.setSession(session);
+
+        cookieRequest = new MockHttpServletRequest();
+        cookieRequest.setCookies(new Cookie("GRE_AUTH", cookieRepository.issue("octocat")));
+    }
+
+    @Benchmark
+    public Authentication httpSession() {
+        return sessionRepository.loadDeferredContext(sessionRequest).get().getAuthentication();
+    }
+
+    @Benchmark
+    public Authentication signedCookie() {
+        return cookieRepository.loadDeferredContext(cookieRequest).get().getAuthentication();
+    }
+}
@@ -0,0 +1,191 @@
+package com.githubrepoexplorerbackend.benchmark;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cold start of the packaged backend in a fresh JVM, per startup configuration:
+ * - baseline: the fat jar with the default configuration (ddl-auto: update, H2 console, eager springdoc);
+ * - prod: the same jar with the prod profile (schema validation, lazy springdoc, no H2 console);
+ * - prod-aot-cds: the prod profile on the AOT-processed, extracted jar with the CDS archive.
+ * <p>
+ * Each invocation launches the JVM in an empty working directory (so a new H2 database), waits until
+ * /actuator/health answers, then logs in and calls GET /api/repos against the in-process GitHub stub.
+ * The score is the time until the backend is ready; the secondary result firstRequestMs is the latency of that
+ * first login + repos round-trip (cold JIT, lazily created beans).
+ * <p>
+ * Requires {@code mvn -Pfast-startup -DskipTests package} first (jar, target/app and target/app/app.jsa), then e.g.
+ * {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="Startup"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StartupBenchmark {
+
+    private static final String JAR = "github-repo-explorer-oauth-pkce-backend-0.0.1-SNAPSHOT.jar";
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+
+    @Param({"baseline", "prod", "prod-aot-cds"})
+    public String startup;
+
+    private final HttpClient probe = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+    private Path target;
+    private GitHubStubServer stub;
+    private Process backend;
+    private int port;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class FirstRequest {
+        public long firstRequestMs;
+
+        private int iterations;
+
+        @Setup(Level.Trial)
+        public void iterations(BenchmarkParams params) {
+            iterations = params.getMeasurement().getCount();
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void startStub() throws IOException {
+        target = Path.of(System.getProperty("startup.target", "target")).toAbsolutePath();
+        if (!Files.exists(target.resolve("app/app.jsa"))) {
+            throw new IllegalStateException("No CDS archive in " + target + "; run mvn -Pfast-startup -DskipTests package first");
+        }
+        stub = new GitHubStubServer(300, 20);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopStub() {
+        stub.close();
+    }
+
+    @Setup(Level.Invocation)
+    public void launch() throws IOException {
+        port = freePort();
+        Path workDir = Files.createTempDirectory("startup-bench");
+        backend = new ProcessBuilder(command())
+                .directory(workDir.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(workDir.resolve("backend.log").toFile())
+                .start();
+    }
+
+    @TearDown(Level.Invocation)
+    public void stop() throws InterruptedException {
+        backend.destroy();
+        if (!backend.waitFor(30, TimeUnit.SECONDS)) {
+            backend.destroyForcibly().waitFor();
+        }
+    }
+
+    @Benchmark
+    public int coldStart(FirstRequest firstRequest) throws IOException, InterruptedException {
+        awaitReady();
+
+        long start = System.nanoTime();
+        int repos = loginAndFetchRepos();
+        // JMH sums EVENTS counters over the iterations, so each one contributes its share of the mean
+        firstRequest.firstRequestMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) / firstRequest.iterations;
+        return repos;
+    }
+
+    private List<String> command() {
+        String java = ProcessHandle.current().info().command().orElse("java");
+        List<String> command = new ArrayList<>(List.of(java));
+        switch (startup) {
+            case "baseline" -> command.addAll(List.of("-jar", target.resolve(JAR).toString()));
+            case "prod" -> command.addAll(List.of("-jar", target.resolve(JAR).toString(), "--spring.profiles.active=prod"));
+            case "prod-aot-cds" -> command.addAll(List.of(
+                    "-XX:SharedArchiveFile=" + target.resolve("app/app.jsa"),
+                    "-Dspring.aot.enabled=true",
+                    "-jar", target.resolve("app/" + JAR).toString(),
+                    "--spring.profiles.active=prod"));
+            default -> throw new IllegalArgumentException("Unknown startup configuration " + startup);
+        }
+        command.addAll(List.of(
+                "--server.port=" + port,
+                "--app.tracing.exporter=none",
+                "--github.oauth.client-id=bench",
+                "--github.oauth.client-secret=bench",
+                "--github.oauth.token-url=" + stub.baseUrl() + "/login/oauth/access_token",
+                "--github.api.base-url=" + stub.baseUrl()));
+        return command;
+    }
+
+    private void awaitReady() throws InterruptedException {
+        HttpRequest health = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + "/actuator/health")).build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!backend.isAlive()) {
+                throw new IllegalStateException("Backend exited with status " + backend.exitValue());
+            }
+            try {
+                if (probe.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // not listening yet
+            }
+            Thread.sleep(10);
+        }
+        throw new IllegalStateException("Backend not ready within " + STARTUP_TIMEOUT);
+    }
+
+    private int loginAndFetchRepos() throws IOException, InterruptedException {
+        String baseUrl = "http://127.0.0.1:" + port;
+        HttpClient client = HttpClient.newBuilder().cookieHandler(new CookieManager()).build();
+        HttpRequest exchange = HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/exchange"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"code\":\"startup\",\"codeVerifier\":\"verifier\",\"redirectUri\":\"http://localhost:4200/auth/callback\"}"))
+                .build();
+        int status = client.send(exchange, HttpResponse.BodyHandlers.discarding()).statusCode();
+        if (status != 200) {
+            throw new IllegalStateException("Login failed with status " + status);
+        }
+        HttpResponse<byte[]> repos = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/repos")).build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        if (repos.statusCode() != 200) {
+            throw new IllegalStateException("GET /api/repos failed with status " + repos.statusCode());
+        }
+        return repos.body().length;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.githubrepoexplorerbackend.benchmark;
+
+import com.githubrepoexplorerbackend.repository.UserTokenBatchRepository;
+import com.githubrepoexplorerbackend.repository.UserTokenBatchRepository.TokenRow;
+import com.githubrepoexplorerbackend.service.GitHubOAuthService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Login-spike token persistence on in-memory H2 (PostgreSQL mode): {@value #LOGINS} logins, half of them
+ * returning users and half new, written either one saveOrUpdate transaction per login (JPA select + insert/update)
+ * or as batched MERGE statements (the write-behind flush path) of {@code batchSize} rows.
+ * Scores are per login.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenPersistenceBenchmark {
+
+    static final int LOGINS = 1000;
+
+    @Param({"100", "500"})
+    public int batchSize;
+
+    private final AtomicLong round = new AtomicLong();
+    private GitHubStubServer stub;
+    private ConfigurableApplicationContext context;
+    private GitHubOAuthService oAuthService;
+    private UserTokenBatchRepository batchRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        stub = new GitHubStubServer(0, 0);
+        context = BackendLauncher.start(stub.baseUrl());
+        oAuthService = context.getBean(GitHubOAuthService.class);
+        batchRepository = context.getBean(UserTokenBatchRepository.class);
+        List<TokenRow> existing = new ArrayList<>();
+        for (int i = 0; i < LOGINS / 2; i++) {
+            existing.add(new TokenRow("bench-user-" + i, "token-" + i, "bearer", "repo", Instant.now()));
+        }
+        batchRepository.upsertAll(existing);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        stub.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOGINS)
+    public void jpaSaveOrUpdate() {
+        for (TokenRow row : nextSpike()) {
+            oAuthService.saveOrUpdate(row.githubLogin(), row.accessToken(), row.tokenType(), row.scope());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOGINS)
+    public void batchedMerge() {
+        List<TokenRow> spike = nextSpike();
+        for (int from = 0; from < spike.size(); from += batchSize) {
+            batchRepository.upsertAll(spike.subList(from, Math.min(from + batchSize, spike.size())));
+        }
+    }
+
+    private List<TokenRow> nextSpike() {
+        long n = round.incrementAndGet();
+        List<TokenRow> rows = new ArrayList<>(LOGINS);
+        for (int i = 0; i < LOGINS / 2; i++) {
+            rows.add(new TokenRow("bench-user-" + i, "token-" + n + "-" + i, "bearer", "repo", Instant.now()));
+            rows.add(new TokenRow("new-user-" + n + "-" + i, "token-" + n + "-" + i, "bearer", "repo", Instant.now()));
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,16 @@
+package com.githubrepoexplorerbackend.cache;
+
+/**
+ * Point-in-time counters for a cache.
+ */
+public record CacheStats(
+        long hits,
+        long misses,
+        long evictions,
+        int size
+) {
+    public double hitRatio() {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+}
@@ -0,0 +1,164 @@
+package com.githubrepoexplorerbackend.cache;
+
+import com.githubrepoexplorerbackend.dto.RepoSummary;
+
+import java.util.AbstractList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable, column-oriented storage for one user's cached repo list.
+ * <p>
+ * A list of RepoSummary records costs one object plus three to six Strings per repo. This layout keeps
+ * only what cannot be derived:
+ * - name, description and stars in parallel arrays;
+ * - the owner part of full_name as a short code into a per-list owner table (a user's repos have a handful of owners);
+ * - language as a short code into a per-list table of canonical Strings shared by every cached list (see LANGUAGES);
+ * - html_url not at all: it is the list's web base (e.g. "https://github.com/") followed by full_name.
+ * <p>
+ * Records are rebuilt on read (get), so callers see an ordinary List<RepoSummary>. Repos that do not fit the
+ * derived form (full_name not "owner/name", or an html_url with a different base) are kept as-is, so the
+ * list always reads back exactly what it was built from.
+ */
+public final class CompactRepoList extends AbstractList<RepoSummary> implements RandomAccess {
+
+    private static final int MAX_LANGUAGES = 4096;
+    private static final short NONE = -1;
+
+    /**
+     * Canonical language Strings shared across lists; GitHub knows a few hundred languages, the cap only guards
+     * against unbounded growth from unexpected values.
+     */
+    private static final Map<String, String> LANGUAGES = new ConcurrentHashMap<>();
+
+    private final String htmlBase;
+    private final String[] names;
+    private final String[] descriptions;
+    private final int[] stars;
+    private final short[] ownerCodes;
+    private final String[] owners;
+    private final short[] languageCodes;
+    private final String[] languages;
+    private final Map<Integer, RepoSummary> irregular;
+
+    private CompactRepoList(List<RepoSummary> repos) {
+        int size = repos.size();
+        this.htmlBase = htmlBaseOf(repos);
+        this.names = new String[size];
+        this.descriptions = new String[size];
+        this.stars = new int[size];
+        this.ownerCodes = new short[size];
+        this.languageCodes = new short[size];
+
+        Map<String, Short> ownerTable = new HashMap<>();
+        Map<String, Short> languageTable = new HashMap<>();
+        Map<Integer, RepoSummary> irregular = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            RepoSummary repo = repos.get(i);
+            String owner = ownerOf(repo);
+            if (owner == null || !isDerivedHtmlUrl(repo) || ownerTable.size() >= Short.MAX_VALUE
+                    || languageTable.size() >= Short.MAX_VALUE) {
+                irregular.put(i, repo);
+                continue;
+            }
+            names[i] = repo.name();
+            descriptions[i] = repo.description();
+            stars[i] = repo.stars();
+            ownerCodes[i] = ownerTable.computeIfAbsent(owner, k -> (short) ownerTable.size());
+            languageCodes[i] = repo.language() == null
+                    ? NONE
+                    : languageTable.computeIfAbsent(canonicalLanguage(repo.language()), k -> (short) languageTable.size());
+        }
+
+        this.owners = table(ownerTable);
+        this.languages = table(languageTable);
+        this.irregular = irregular.isEmpty() ? Map.of() : Map.copyOf(irregular);
+    }
+
+    /**
+     * Compact copy of repos (or repos itself if it already is one).
+     */
+    public static CompactRepoList of(List<RepoSummary> repos) {
+        return repos instanceof CompactRepoList compact ? compact : new CompactRepoList(repos);
+    }
+
+    @Override
+    public RepoSummary get(int index) {
+        if (!irregular.isEmpty()) {
+            RepoSummary repo = irregular.get(index);
+            if (repo != null) {
+                return repo;
+            }
+        }
+        String fullName = owners[ownerCodes[index]] + '/' + names[index];
+        short language = languageCodes[index];
+        return new RepoSummary(names[index], fullName, htmlBase + fullName, descriptions[index], stars[index],
+                language == NONE ? null : languages[language]);
+    }
+
+    @Override
+    public int size() {
+        return names.length;
+    }
+
+    private boolean isDerivedHtmlUrl(RepoSummary repo) {
+        String htmlUrl = repo.htmlUrl();
+        String fullName = repo.fullName();
+        return htmlBase != null && htmlUrl != null
+                && htmlUrl.length() == htmlBase.length() + fullName.length()
+                && htmlUrl.startsWith(htmlBase)
+                && htmlUrl.endsWith(fullName);
+    }
+
+    /**
+     * The owner in "owner/name", or null if full_name is not of that form.
+     */
+    private static String ownerOf(RepoSummary repo) {
+        String name = repo.name();
+        String fullName = repo.fullName();
+        if (name == null || fullName == null) {
+            return null;
+        }
+        int slash = fullName.length() - name.length() - 1;
+        if (slash <= 0 || fullName.charAt(slash) != '/' || !fullName.endsWith(name)) {
+            return null;
+        }
+        return fullName.substring(0, slash);
+    }
+
+    /**
+     * The web base shared by the list's html_urls, taken from the first repo that has one
+     * ("https://github.com/" on github.com, the server's host on GitHub Enterprise).
+     */
+    private static String htmlBaseOf(List<RepoSummary> repos) {
+        for (RepoSummary repo : repos) {
+            String htmlUrl = repo.htmlUrl();
+            String fullName = repo.fullName();
+            if (htmlUrl != null && fullName != null && htmlUrl.endsWith("/" + fullName)) {
+                return htmlUrl.substring(0, htmlUrl.length() - fullName.length());
+            }
+        }
+        return null;
+    }
+
+    private static String canonicalLanguage(String language) {
+        String canonical = LANGUAGES.get(language);
+        if (canonical != null) {
+            return canonical;
+        }
+        if (LANGUAGES.size() >= MAX_LANGUAGES) {
+            return language;
+        }
+        canonical = LANGUAGES.putIfAbsent(language, language);
+        return canonical != null ? canonical : language;
+    }
+
+    private static String[] table(Map<String, Short> codes) {
+        String[] table = new String[codes.size()];
+        codes.forEach((value, code) -> table[code] = value);
+        return table;
+    }
+}
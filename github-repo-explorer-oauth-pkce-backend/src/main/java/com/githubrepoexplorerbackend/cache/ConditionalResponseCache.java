@@ -0,0 +1,92 @@
+package com.githubrepoexplorerbackend.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-user cache of GitHub responses keyed by user + request url, holding the response ETag and the
+ * already-parsed body.
+ * <p>
+ * Usage:
+ * 1. Before a GET, look up the entry and send its ETag as If-None-Match.
+ * 2. On 304 Not Modified call {@link #notModified()} and reuse the cached body (no JSON parsing, and
+ *    GitHub does not count conditional 304s against the rate limit).
+ * 3. On 200 call {@link #store(String, String, Object)} with the new ETag and parsed body.
+ */
+@Component
+public class ConditionalResponseCache {
+
+    private final ExpiringLruCache<String, CachedResponse<?>> cache;
+
+    private final AtomicLong notModified = new AtomicLong();
+    private final AtomicLong modified = new AtomicLong();
+
+    public ConditionalResponseCache(
+            @Value("${github.cache.max-entries}") int maxEntries,
+            @Value("${github.cache.ttl}") Duration ttl
+    ) {
+        this.cache = new ExpiringLruCache<>(maxEntries, ttl);
+    }
+
+    /**
+     * Look up a cached response. Returns null if nothing usable is cached.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CachedResponse<T> lookup(String key) {
+        return (CachedResponse<T>) cache.get(key);
+    }
+
+    /**
+     * Record a fresh 200 response. Responses without an ETag cannot be revalidated and are not stored.
+     */
+    public <T> void store(String key, String etag, T body) {
+        modified.incrementAndGet();
+        if (etag == null || etag.isBlank() || body == null) {
+            cache.invalidate(key);
+            return;
+        }
+        cache.put(key, new CachedResponse<>(etag, body));
+    }
+
+    /**
+     * Record that a conditional request was answered with 304 and the cached body was served.
+     */
+    public void notModified() {
+        notModified.incrementAndGet();
+    }
+
+    /**
+     * Build a cache key for a request made with an access token before the user's login is known.
+     * The token is hashed so raw credentials are never held as map keys.
+     */
+    public static String tokenKey(String accessToken, String url) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(accessToken.getBytes(StandardCharsets.UTF_8));
+            return "token:" + HexFormat.of().formatHex(digest) + " " + url;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public void invalidate(String key) {
+        cache.invalidate(key);
+    }
+
+    /**
+     * Hits are 304 revalidations, misses are full 200 responses.
+     */
+    public CacheStats stats() {
+        CacheStats raw = cache.stats();
+        return new CacheStats(notModified.get(), modified.get(), raw.evictions(), raw.size());
+    }
+
+    public record CachedResponse<T>(String etag, T body) {
+    }
+}
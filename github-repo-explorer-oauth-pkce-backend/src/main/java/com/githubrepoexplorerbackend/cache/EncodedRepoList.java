@@ -0,0 +1,54 @@
+package com.githubrepoexplorerbackend.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.githubrepoexplorerbackend.dto.RepoSummary;
+import org.springframework.util.DigestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The GET /api/repos response body for one repo list, encoded once when the list is cached:
+ * the gzip form of its UTF-8 JSON and a strong ETag for each form (the gzip one suffixed with "-gzip").
+ * Serving a cached list to a gzip-capable client is then a plain byte copy, with no Jackson serialization
+ * per request.
+ * <p>
+ * Only the gzip bytes are kept, since the plain JSON is several times larger and most clients accept gzip;
+ * json() inflates them for the others. The array is shared by every request for the list and must not be modified.
+ */
+public record EncodedRepoList(byte[] gzip, int jsonLength, String etag, String gzipEtag) {
+
+    public static EncodedRepoList encode(ObjectMapper objectMapper, List<RepoSummary> repos) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(repos);
+            String etag = DigestUtils.md5DigestAsHex(json);
+            return new EncodedRepoList(gzip(json), json.length, etag, etag + "-gzip");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode repo list", e);
+        }
+    }
+
+    /**
+     * The plain JSON body, inflated from the gzip bytes into a new array on every call.
+     */
+    public byte[] json() {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            return in.readNBytes(jsonLength);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode repo list", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(bytes.length / 4);
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(bytes);
+        }
+        return buffer.toByteArray();
+    }
+}
@@ -0,0 +1,117 @@
+package com.githubrepoexplorerbackend.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Small bounded, access-ordered (LRU) cache with a per-entry time-to-live.
+ * <p>
+ * - Once {@code maxSize} entries are present, the least recently used entry is evicted on insert.
+ * - Entries older than {@code ttl} are treated as absent and removed on lookup.
+ * - Lookups are counted as hits/misses so callers can expose a hit ratio.
+ * <p>
+ * All access goes through a single monitor; the critical sections are a hash lookup and a
+ * linked-list relink, which is cheap compared to the network/DB calls this cache sits in front of.
+ */
+public class ExpiringLruCache<K, V> {
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final Map<K, Entry<V>> entries;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public ExpiringLruCache(int maxSize, Duration ttl) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > ExpiringLruCache.this.maxSize) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Return the cached value for the key, or null if absent or expired.
+     */
+    public V get(K key) {
+        synchronized (entries) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null && isExpired(entry)) {
+                entries.remove(key);
+                evictions.incrementAndGet();
+                entry = null;
+            }
+            if (entry == null) {
+                misses.incrementAndGet();
+                return null;
+            }
+            hits.incrementAndGet();
+            return entry.value();
+        }
+    }
+
+    public void put(K key, V value) {
+        synchronized (entries) {
+            entries.put(key, new Entry<>(value, System.nanoTime()));
+        }
+    }
+
+    public void invalidate(K key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Copy of the non-expired values, without touching access order or hit/miss counters.
+     */
+    public List<V> values() {
+        synchronized (entries) {
+            List<V> values = new ArrayList<>(entries.size());
+            for (Entry<V> entry : entries.values()) {
+                if (!isExpired(entry)) {
+                    values.add(entry.value());
+                }
+            }
+            return values;
+        }
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(hits.get(), misses.get(), evictions.get(), size());
+    }
+
+    private boolean isExpired(Entry<V> entry) {
+        return System.nanoTime() - entry.storedAtNanos() > ttlNanos;
+    }
+
+    private record Entry<V>(V value, long storedAtNanos) {
+    }
+}
@@ -0,0 +1,131 @@
+package com.githubrepoexplorerbackend.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Invalidation bus over the shared database, for nodes that share one token store but no message broker.
+ * <p>
+ * Execution:
+ * - publish inserts one token_invalidations row per login, tagged with this node's id.
+ * - A background thread polls every `pollInterval` for rows with an id above the last one seen and hands
+ *   logins published by other nodes to the listeners. Polling starts at the current max id.
+ * - Ids are assigned at insert but become visible at commit, so a lower id can appear after a higher one.
+ *   Ids skipped by a poll are kept as gaps and looked for again by every poll for up to GAP_TIMEOUT; after
+ *   that they are taken to be inserts that rolled back.
+ * - Rows older than `retention` are deleted by the poller.
+ * <p>
+ * A message is seen by other nodes up to one poll interval late; the near-cache TTL bounds staleness
+ * should one still be missed (a row committing more than GAP_TIMEOUT after its id was assigned).
+ */
+public class JdbcTokenInvalidationBus implements TokenInvalidationBus, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(JdbcTokenInvalidationBus.class);
+    private static final Duration GAP_TIMEOUT = Duration.ofMinutes(1);
+    private static final int MAX_GAPS = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration pollInterval;
+    private final Duration retention;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+    private final Thread poller;
+    private volatile boolean running = true;
+    private long lastSeenId;
+    // skipped ids -> when they were first skipped; poller thread only
+    private final TreeMap<Long, Instant> gaps = new TreeMap<>();
+    private Instant lastPrune = Instant.EPOCH;
+
+    public JdbcTokenInvalidationBus(JdbcTemplate jdbcTemplate, Duration pollInterval, Duration retention) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.pollInterval = pollInterval;
+        this.retention = retention;
+        this.lastSeenId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM token_invalidations", Long.class);
+        this.poller = Thread.ofPlatform().name("token-invalidation-poller").daemon(true).start(this::run);
+        log.info("Token invalidation bus started (node={}, pollInterval={})", nodeId, pollInterval);
+    }
+
+    @Override
+    public void publish(Collection<String> githubLogins) {
+        if (githubLogins.isEmpty()) {
+            return;
+        }
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO token_invalidations (github_login, node_id, created_at) VALUES (?, ?, ?)",
+                List.copyOf(githubLogins), githubLogins.size(), (ps, login) -> {
+                    ps.setString(1, login);
+                    ps.setString(2, nodeId);
+                    ps.setObject(3, now);
+                });
+    }
+
+    @Override
+    public void subscribe(Consumer<String> listener) {
+        listeners.add(listener);
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                Thread.sleep(pollInterval);
+                poll();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Polling token invalidations failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void poll() {
+        Instant now = Instant.now();
+        long after = gaps.isEmpty() ? lastSeenId : gaps.firstKey() - 1;
+        jdbcTemplate.query(
+                "SELECT id, github_login, node_id FROM token_invalidations WHERE id > ? ORDER BY id",
+                rs -> {
+                    long id = rs.getLong(1);
+                    if (id > lastSeenId) {
+                        for (long skipped = lastSeenId + 1; skipped < id && gaps.size() < MAX_GAPS; skipped++) {
+                            gaps.put(skipped, now);
+                        }
+                        lastSeenId = id;
+                    } else if (gaps.remove(id) == null) {
+                        return; // delivered by an earlier poll
+                    }
+                    if (!nodeId.equals(rs.getString(3))) {
+                        String login = rs.getString(2);
+                        listeners.forEach(listener -> listener.accept(login));
+                    }
+                },
+                after);
+        gaps.values().removeIf(skippedAt -> skippedAt.plus(GAP_TIMEOUT).isBefore(now));
+
+        if (Duration.between(lastPrune, now).compareTo(retention) > 0) {
+            jdbcTemplate.update("DELETE FROM token_invalidations WHERE created_at < ?",
+                    OffsetDateTime.ofInstant(now.minus(retention), ZoneOffset.UTC));
+            lastPrune = now;
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        poller.interrupt();
+        poller.join(pollInterval.toMillis() * 2);
+    }
+}
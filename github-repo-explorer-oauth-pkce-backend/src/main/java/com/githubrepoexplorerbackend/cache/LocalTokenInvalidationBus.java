@@ -0,0 +1,18 @@
+package com.githubrepoexplorerbackend.cache;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * Single-node bus: there is no other near-cache to notify, so messages are dropped.
+ */
+public class LocalTokenInvalidationBus implements TokenInvalidationBus {
+
+    @Override
+    public void publish(Collection<String> githubLogins) {
+    }
+
+    @Override
+    public void subscribe(Consumer<String> listener) {
+    }
+}
@@ -0,0 +1,71 @@
+package com.githubrepoexplorerbackend.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.githubrepoexplorerbackend.dto.RepoSummary;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Last known good repository list per githubLogin.
+ * <p>
+ * Written after every successful full fetch and used as a fallback when a fresh fetch is not possible
+ * or not advisable (e.g. the user's GitHub rate-limit budget is nearly exhausted).
+ * <p>
+ * Each entry also holds the list's encoded response body (EncodedRepoList), built once on put, so
+ * GET /api/repos serves cached lists without serializing them again.
+ * <p>
+ * Lists are stored as CompactRepoList, which keeps the per-repo footprint low when many users' lists are cached.
+ */
+@Component
+public class RepoListCache {
+
+    private final ObjectMapper objectMapper;
+    private final ExpiringLruCache<String, CachedRepoList> cache;
+
+    public RepoListCache(
+            ObjectMapper objectMapper,
+            @Value("${github.repo-cache.max-entries}") int maxEntries,
+            @Value("${github.repo-cache.ttl}") Duration ttl
+    ) {
+        this.objectMapper = objectMapper;
+        this.cache = new ExpiringLruCache<>(maxEntries, ttl);
+    }
+
+    /**
+     * Return the cached list for the login, or null if none is cached.
+     */
+    public CachedRepoList get(String githubLogin) {
+        return cache.get(githubLogin);
+    }
+
+    /**
+     * Cache repos for githubLogin and return the stored entry, whose repos() is the compact copy.
+     */
+    public CachedRepoList put(String githubLogin, List<RepoSummary> repos) {
+        CachedRepoList entry = encode(repos);
+        cache.put(githubLogin, entry);
+        return entry;
+    }
+
+    /**
+     * Wrap a list that is not (or no longer) cached, encoding it now.
+     */
+    public CachedRepoList encode(List<RepoSummary> repos) {
+        return new CachedRepoList(CompactRepoList.of(repos), EncodedRepoList.encode(objectMapper, repos), Instant.now());
+    }
+
+    public void invalidate(String githubLogin) {
+        cache.invalidate(githubLogin);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public record CachedRepoList(List<RepoSummary> repos, EncodedRepoList encoded, Instant fetchedAt) {
+    }
+}
@@ -0,0 +1,100 @@
+package com.githubrepoexplorerbackend.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls for the same key into a single execution.
+ * <p>
+ * The first caller for a key (the leader) runs the loader on its own thread; callers arriving while it is
+ * in flight attach to the leader's CompletableFuture and receive the same result or the same exception.
+ * The key is released as soon as the leader finishes, so the next call after completion starts a fresh load.
+ * <p>
+ * executeAsync runs the leader's load on an executor instead; synchronous and asynchronous callers share the
+ * same in-flight entry, so a key has at most one load running or queued at any time. A synchronous caller may
+ * therefore wait for a load that is still queued: never call execute from a task on that executor, use
+ * executeAsync and compose on the returned future instead.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong coalesced = new AtomicLong();
+
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> leader = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, leader);
+        if (existing != null) {
+            coalesced.incrementAndGet();
+            return await(existing);
+        }
+
+        return load(key, leader, loader);
+    }
+
+    /**
+     * Start the load for key on the executor, or return the future of the load already in flight for it.
+     * The returned future is shared by all callers of the key: wait on it, but do not complete or cancel it.
+     */
+    public CompletableFuture<V> executeAsync(K key, Supplier<V> loader, Executor executor) {
+        CompletableFuture<V> leader = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, leader);
+        if (existing != null) {
+            coalesced.incrementAndGet();
+            return existing;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    load(key, leader, loader);
+                } catch (RuntimeException | Error e) {
+                    // delivered to the callers through the future
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(key, leader);
+            leader.completeExceptionally(e);
+        }
+        return leader;
+    }
+
+    /**
+     * Number of calls that were served by attaching to an in-flight execution.
+     */
+    public long coalescedCount() {
+        return coalesced.get();
+    }
+
+    private V load(K key, CompletableFuture<V> leader, Supplier<V> loader) {
+        try {
+            V value = loader.get();
+            leader.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            leader.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, leader);
+        }
+    }
+
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
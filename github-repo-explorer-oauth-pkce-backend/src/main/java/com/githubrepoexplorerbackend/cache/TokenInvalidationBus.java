@@ -0,0 +1,22 @@
+package com.githubrepoexplorerbackend.cache;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * Carries "token changed" messages between the UserTokenCache near-caches of nodes that share one token store.
+ * A node never receives its own messages.
+ */
+public interface TokenInvalidationBus {
+
+    /**
+     * Announce that the stored tokens of these logins changed. Call only after the store write committed,
+     * so a receiving node that reloads finds the new token.
+     */
+    void publish(Collection<String> githubLogins);
+
+    /**
+     * Register a listener called with each login invalidated by another node.
+     */
+    void subscribe(Consumer<String> listener);
+}
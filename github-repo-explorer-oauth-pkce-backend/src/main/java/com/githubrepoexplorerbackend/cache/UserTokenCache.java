@@ -0,0 +1,128 @@
+package com.githubrepoexplorerbackend.cache;
+
+import com.githubrepoexplorerbackend.entity.UserToken;
+import com.githubrepoexplorerbackend.repository.UserTokenRepository;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Read-through / write-through cache of access tokens keyed by githubLogin, in front of
+ * UserTokenRepository.findByGithubLogin.
+ * <p>
+ * A token only changes when the user logs in again, so the hot /api/repos path can usually read it from
+ * memory instead of doing a JPA query and entity hydration per request. Size is bounded (LRU eviction)
+ * and entries expire after the configured TTL as a safety net.
+ * <p>
+ * When several nodes share the token store, this cache is a per-node near-cache: committed token writes are
+ * announced on the TokenInvalidationBus and other nodes drop their copy, reloading it from the store on next use.
+ * <p>
+ * Every eviction or write bumps a generation counter. A token loaded on a miss is only cached if the generation
+ * did not change during the load, so a read that raced with a token change (an invalidation arriving while the
+ * old token was being read) cannot put the old token back for the whole TTL. The next miss loads it again.
+ */
+@Component
+public class UserTokenCache {
+
+    private final UserTokenRepository tokenRepo;
+    private final ObservationRegistry observationRegistry;
+    private final TokenInvalidationBus invalidationBus;
+    private final ExpiringLruCache<String, String> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    public UserTokenCache(
+            UserTokenRepository tokenRepo,
+            ObservationRegistry observationRegistry,
+            TokenInvalidationBus invalidationBus,
+            @Value("${github.token-cache.max-entries}") int maxEntries,
+            @Value("${github.token-cache.ttl}") Duration ttl
+    ) {
+        this.tokenRepo = tokenRepo;
+        this.observationRegistry = observationRegistry;
+        this.invalidationBus = invalidationBus;
+        this.cache = new ExpiringLruCache<>(maxEntries, ttl);
+        invalidationBus.subscribe(this::evict);
+    }
+
+    /**
+     * Return the access token for the login, loading it from the database on a cache miss.
+     * The database lookup is observed as its own span/timer (user.token.lookup).
+     */
+    public Optional<String> getAccessToken(String githubLogin) {
+        String cached = cache.get(githubLogin);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        long loadGeneration = generation.get();
+        Optional<String> loaded = Observation.createNotStarted("user.token.lookup", observationRegistry)
+                .contextualName("UserTokenRepository.findByGithubLogin")
+                .observe(() -> tokenRepo.findByGithubLogin(githubLogin).map(UserToken::getAccessToken));
+        loaded.ifPresent(token -> putIfUnchanged(githubLogin, token, loadGeneration));
+        return loaded;
+    }
+
+    /**
+     * Write-through after a token upsert. Inside a transaction the cache is only updated once the
+     * transaction commits, so a rolled-back write never becomes visible to readers; the commit is then
+     * announced to other nodes. Outside a transaction (write-behind) only the local copy is updated;
+     * the writer calls stored(...) once the write is persisted.
+     */
+    public void put(String githubLogin, String accessToken) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(githubLogin);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    replace(githubLogin, accessToken);
+                    invalidationBus.publish(List.of(githubLogin));
+                }
+            });
+            return;
+        }
+        replace(githubLogin, accessToken);
+    }
+
+    /**
+     * Announce tokens persisted outside of put's transaction (e.g. a write-behind batch) to other nodes.
+     */
+    public void stored(Collection<String> githubLogins) {
+        invalidationBus.publish(githubLogins);
+    }
+
+    public void invalidate(String githubLogin) {
+        evict(githubLogin);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    private synchronized void evict(String githubLogin) {
+        generation.incrementAndGet();
+        cache.invalidate(githubLogin);
+    }
+
+    private synchronized void replace(String githubLogin, String accessToken) {
+        generation.incrementAndGet();
+        cache.put(githubLogin, accessToken);
+    }
+
+    /**
+     * Cache a token loaded on a miss, unless an eviction or write happened since the load started.
+     */
+    private synchronized void putIfUnchanged(String githubLogin, String accessToken, long loadGeneration) {
+        if (generation.get() == loadGeneration) {
+            cache.put(githubLogin, accessToken);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.githubrepoexplorerbackend.client;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Count-based circuit breaker driven by error rate and latency.
+ * <p>
+ * - CLOSED: calls pass; the outcome of the last `windowSize` calls is kept in a ring buffer. Once at least
+ *   `minimumCalls` are recorded, the circuit opens when the failure rate or the slow-call rate (calls taking at
+ *   least `slowCallDuration`) reaches its threshold.
+ * - OPEN: calls are rejected for `openDuration`, then the circuit turns HALF_OPEN.
+ * - HALF_OPEN: `halfOpenCalls` trial calls are let through. The first failing or slow trial reopens the circuit;
+ *   if all of them succeed in time it closes with an empty window.
+ * <p>
+ * Callers ask tryAcquirePermission before the call and report it with record (or releasePermission if the call
+ * was not made after all). State changes are rare and cheap, so the breaker is simply synchronized.
+ */
+public final class CircuitBreaker {
+
+    private static final Logger log = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    private static final byte FAILED = 1;
+    private static final byte SLOW = 2;
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final String name;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long slowCallNanos;
+    private final double slowCallRateThreshold;
+    private final long openNanos;
+    private final int halfOpenCalls;
+
+    private final byte[] window;
+    private int next;
+    private int recorded;
+    private int failures;
+    private int slowCalls;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSucceeded;
+
+    private final AtomicLong rejected = new AtomicLong();
+
+    public CircuitBreaker(String name, int windowSize, int minimumCalls, double failureRateThreshold,
+                          Duration slowCallDuration, double slowCallRateThreshold, Duration openDuration, int halfOpenCalls) {
+        this.name = name;
+        this.window = new byte[windowSize];
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallNanos = slowCallDuration.toNanos();
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.halfOpenCalls = halfOpenCalls;
+    }
+
+    /**
+     * True if a call may be made now; false (counted as rejected) while open or when all half-open trials are taken.
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAt < openNanos) {
+                rejected.incrementAndGet();
+                return false;
+            }
+            transition(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits >= halfOpenCalls) {
+                rejected.incrementAndGet();
+                return false;
+            }
+            halfOpenPermits++;
+        }
+        return true;
+    }
+
+    /**
+     * Give back a permission whose call was not made.
+     */
+    public synchronized void releasePermission() {
+        if (state == State.HALF_OPEN && halfOpenPermits > 0) {
+            halfOpenPermits--;
+        }
+    }
+
+    /**
+     * Record the outcome of a permitted call.
+     */
+    public synchronized void record(long durationNanos, boolean failed) {
+        boolean slow = durationNanos >= slowCallNanos;
+        switch (state) {
+            case HALF_OPEN -> {
+                if (failed || slow) {
+                    transition(State.OPEN);
+                } else if (++halfOpenSucceeded >= halfOpenCalls) {
+                    transition(State.CLOSED);
+                }
+            }
+            case CLOSED -> {
+                recordInWindow((byte) ((failed ? FAILED : 0) | (slow ? SLOW : 0)));
+                if (recorded >= minimumCalls
+                        && (failures * 100.0 >= failureRateThreshold * recorded
+                        || slowCalls * 100.0 >= slowCallRateThreshold * recorded)) {
+                    log.warn("GitHub circuit breaker '{}' opening: {} of {} calls failed, {} slow",
+                            name, failures, recorded, slowCalls);
+                    transition(State.OPEN);
+                }
+            }
+            // a call that started before the circuit opened
+            case OPEN -> {
+            }
+        }
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    /**
+     * True while calls are being rejected (open and the open duration has not elapsed yet).
+     */
+    public synchronized boolean isOpen() {
+        return state == State.OPEN && System.nanoTime() - openedAt < openNanos;
+    }
+
+    /**
+     * Seconds until an open circuit lets a trial call through (at least 1).
+     */
+    public synchronized long secondsUntilHalfOpen() {
+        long remaining = state == State.OPEN ? openNanos - (System.nanoTime() - openedAt) : 0;
+        return Math.max(1, Duration.ofNanos(remaining).toSeconds());
+    }
+
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Calls rejected because the circuit was open.
+     */
+    public long rejectedCount() {
+        return rejected.get();
+    }
+
+    private void recordInWindow(byte outcome) {
+        if (recorded == window.length) {
+            byte evicted = window[next];
+            failures -= evicted & FAILED;
+            slowCalls -= (evicted & SLOW) >> 1;
+        } else {
+            recorded++;
+        }
+        window[next] = outcome;
+        next = (next + 1) % window.length;
+        failures += outcome & FAILED;
+        slowCalls += (outcome & SLOW) >> 1;
+    }
+
+    private void transition(State target) {
+        if (target == State.OPEN) {
+            openedAt = System.nanoTime();
+        }
+        if (target == State.CLOSED) {
+            next = 0;
+            recorded = 0;
+            failures = 0;
+            slowCalls = 0;
+        }
+        halfOpenPermits = 0;
+        halfOpenSucceeded = 0;
+        if (state != State.CLOSED || target != State.OPEN) {
+            log.info("GitHub circuit breaker '{}' {} -> {}", name, state, target);
+        }
+        state = target;
+    }
+}
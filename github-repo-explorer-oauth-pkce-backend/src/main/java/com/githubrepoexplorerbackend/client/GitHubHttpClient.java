@@ -0,0 +1,125 @@
+package com.githubrepoexplorerbackend.client;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Single HTTP client shared by every outbound GitHub call (OAuth token exchange, /user, /user/repos).
+ * <p>
+ * Backed by a pooled, keep-alive Apache HttpClient connection manager so repeated calls reuse open TLS
+ * connections instead of paying a fresh handshake each time. Pool sizes and timeouts are configured under
+ * `github.api.*` in application.yaml.
+ * <p>
+ * Every call also passes through GitHubResilienceInterceptor (circuit breakers and bulkheads, configured under
+ * `github.resilience.*`).
+ */
+@Component
+public class GitHubHttpClient implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(GitHubHttpClient.class);
+
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final CloseableHttpClient httpClient;
+    private final RestTemplate restTemplate;
+    private final GitHubResilienceInterceptor resilience;
+
+    public GitHubHttpClient(
+            RestTemplateBuilder restTemplateBuilder,
+            @Value("${github.api.connect-timeout}") Duration connectTimeout,
+            @Value("${github.api.read-timeout}") Duration readTimeout,
+            @Value("${github.api.max-connections}") int maxConnections,
+            @Value("${github.api.max-connections-per-route}") int maxConnectionsPerRoute,
+            @Value("${github.resilience.circuit-breaker.window-size}") int windowSize,
+            @Value("${github.resilience.circuit-breaker.minimum-calls}") int minimumCalls,
+            @Value("${github.resilience.circuit-breaker.failure-rate-threshold}") double failureRateThreshold,
+            @Value("${github.resilience.circuit-breaker.slow-call-duration}") Duration slowCallDuration,
+            @Value("${github.resilience.circuit-breaker.slow-call-rate-threshold}") double slowCallRateThreshold,
+            @Value("${github.resilience.circuit-breaker.open-duration}") Duration openDuration,
+            @Value("${github.resilience.circuit-breaker.half-open-calls}") int halfOpenCalls,
+            @Value("${github.resilience.bulkhead.oauth-max-concurrent}") int oauthMaxConcurrent,
+            @Value("${github.resilience.bulkhead.repos-max-concurrent}") int reposMaxConcurrent,
+            @Value("${github.resilience.bulkhead.max-wait}") Duration bulkheadMaxWait
+    ) {
+        this.connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setSocketTimeout(Timeout.of(readTimeout))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                        .build())
+                .build();
+
+        this.httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(connectTimeout))
+                        .setResponseTimeout(Timeout.of(readTimeout))
+                        .build())
+                .evictIdleConnections(TimeValue.ofMinutes(1))
+                .build();
+
+        this.resilience = new GitHubResilienceInterceptor(
+                new CircuitBreaker("oauth", windowSize, minimumCalls, failureRateThreshold,
+                        slowCallDuration, slowCallRateThreshold, openDuration, halfOpenCalls),
+                new Bulkhead("oauth", oauthMaxConcurrent, bulkheadMaxWait),
+                new CircuitBreaker("repos", windowSize, minimumCalls, failureRateThreshold,
+                        slowCallDuration, slowCallRateThreshold, openDuration, halfOpenCalls),
+                new Bulkhead("repos", reposMaxConcurrent, bulkheadMaxWait));
+
+        // Built through RestTemplateBuilder so Boot's customizers (e.g. observation) are applied.
+        this.restTemplate = restTemplateBuilder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+                .additionalInterceptors(resilience)
+                .build();
+
+        log.info("GitHub HTTP client pool created (maxTotal={}, maxPerRoute={}, connectTimeout={}, readTimeout={})",
+                maxConnections, maxConnectionsPerRoute, connectTimeout, readTimeout);
+    }
+
+    public RestTemplate restTemplate() {
+        return restTemplate;
+    }
+
+    public GitHubResilienceInterceptor resilience() {
+        return resilience;
+    }
+
+    /**
+     * Current connection pool usage across all routes.
+     */
+    public PoolMetrics poolMetrics() {
+        PoolStats stats = connectionManager.getTotalStats();
+        return new PoolMetrics(stats.getLeased(), stats.getPending(), stats.getAvailable(), stats.getMax());
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        httpClient.close();
+    }
+
+    /**
+     * Snapshot of the connection pool: connections in use, requests waiting for a connection,
+     * idle connections kept alive, and the configured total maximum.
+     */
+    public record PoolMetrics(int leased, int pending, int available, int max) {
+    }
+}
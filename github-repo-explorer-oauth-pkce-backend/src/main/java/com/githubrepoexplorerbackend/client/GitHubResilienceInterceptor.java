@@ -0,0 +1,170 @@
+package com.githubrepoexplorerbackend.client;
+
+import com.githubrepoexplorerbackend.exception.GitHubUnavailableException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Guards every outbound GitHub call with a circuit breaker and a bulkhead, kept separately for two traffic
+ * classes so one cannot starve or trip the other:
+ * - oauth: the token exchange and /user (login);
+ * - repos: /user/repos and /graphql (repo lists, including background refreshes).
+ * <p>
+ * Execution flow:
+ * 1. If the class's circuit is open, fail fast with GitHubUnavailableException (Retry-After: time until the next
+ *    trial call) instead of queueing behind a GitHub that is down or slow.
+ * 2. Take a bulkhead slot, waiting at most `github.resilience.bulkhead.max-wait`; if none frees up, fail with
+ *    GitHubUnavailableException. This caps concurrent upstream calls, so a slow GitHub ties up at most that many
+ *    threads per class.
+ * 3. Make the call. The slot is held and the call timed until the response is closed, i.e. until its body has
+ *    been read, since the repo pages are streamed and parsed after the headers arrive.
+ * 4. On close, record the outcome: I/O errors (also while reading the body) and 5xx responses are failures, and
+ *    a call counts as slow at `github.resilience.circuit-breaker.slow-call-duration`. Other 4xx answers (bad
+ *    token, rate limits) are GitHub working as intended and count as successes.
+ */
+public class GitHubResilienceInterceptor implements ClientHttpRequestInterceptor {
+
+    private final Guard oauth;
+    private final Guard repos;
+
+    public GitHubResilienceInterceptor(CircuitBreaker oauthBreaker, Bulkhead oauthBulkhead,
+                                       CircuitBreaker reposBreaker, Bulkhead reposBulkhead) {
+        this.oauth = new Guard(oauthBreaker, oauthBulkhead);
+        this.repos = new Guard(reposBreaker, reposBulkhead);
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        Guard guard = isOAuth(request) ? oauth : repos;
+        CircuitBreaker breaker = guard.breaker();
+        if (!breaker.tryAcquirePermission()) {
+            throw new GitHubUnavailableException("GitHub " + breaker.name() + " circuit is open", breaker.secondsUntilHalfOpen());
+        }
+        if (!guard.bulkhead().tryEnter()) {
+            breaker.releasePermission();
+            throw new GitHubUnavailableException("Too many concurrent GitHub " + breaker.name() + " calls", 1);
+        }
+
+        long start = System.nanoTime();
+        ClientHttpResponse response;
+        try {
+            response = execution.execute(request, body);
+        } catch (IOException | RuntimeException e) {
+            breaker.record(System.nanoTime() - start, true);
+            guard.bulkhead().exit();
+            throw e;
+        }
+        return new GuardedResponse(response, guard, start);
+    }
+
+    public CircuitBreaker oauthCircuitBreaker() {
+        return oauth.breaker();
+    }
+
+    public CircuitBreaker reposCircuitBreaker() {
+        return repos.breaker();
+    }
+
+    public Bulkhead oauthBulkhead() {
+        return oauth.bulkhead();
+    }
+
+    public Bulkhead reposBulkhead() {
+        return repos.bulkhead();
+    }
+
+    private static boolean isOAuth(HttpRequest request) {
+        String path = request.getURI().getPath();
+        return path != null && (path.endsWith("/login/oauth/access_token") || path.endsWith("/user"));
+    }
+
+    private record Guard(CircuitBreaker breaker, Bulkhead bulkhead) {
+    }
+
+    /**
+     * Response that records the call and frees its bulkhead slot when it is closed (RestTemplate closes every
+     * response once the extractor is done with the body).
+     */
+    private static final class GuardedResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final Guard guard;
+        private final long start;
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile boolean bodyFailed;
+
+        private GuardedResponse(ClientHttpResponse delegate, Guard guard, long start) {
+            this.delegate = delegate;
+            this.guard = guard;
+            this.start = start;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return new FilterInputStream(delegate.getBody()) {
+                @Override
+                public int read() throws IOException {
+                    try {
+                        return super.read();
+                    } catch (IOException e) {
+                        bodyFailed = true;
+                        throw e;
+                    }
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    try {
+                        return super.read(b, off, len);
+                    } catch (IOException e) {
+                        bodyFailed = true;
+                        throw e;
+                    }
+                }
+            };
+        }
+
+        @Override
+        public void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                boolean failed = bodyFailed;
+                try {
+                    failed |= delegate.getStatusCode().is5xxServerError();
+                } catch (IOException e) {
+                    failed = true;
+                }
+                guard.breaker().record(System.nanoTime() - start, failed);
+                delegate.close();
+            } finally {
+                guard.bulkhead().exit();
+            }
+        }
+    }
+}
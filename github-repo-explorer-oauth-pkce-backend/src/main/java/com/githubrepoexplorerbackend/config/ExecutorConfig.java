@@ -0,0 +1,73 @@
+package com.githubrepoexplorerbackend.config;
+
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+@EnableScheduling
+public class ExecutorConfig {
+
+    /**
+     * Executor used for outbound GitHub calls that are fanned out in parallel
+     * (e.g. fetching the remaining pages of /user/repos once the last page is known).
+     * <p>
+     * - Platform mode: fixed pool; the pool size caps the total number of concurrent page fetches across all users.
+     * - Virtual-thread mode (spring.threads.virtual.enabled=true): one virtual thread per task, so a fetch blocked
+     *   on GitHub costs no platform thread. Per-call fan-out is still bounded by github.api.max-parallel-pages.
+     * <p>
+     * The executor is wrapped so each task runs with the submitting thread's context (current observation/span,
+     * MDC), keeping page fetches done on this pool inside the originating request's trace.
+     * <p>
+     * Tasks on this executor must not block on other tasks submitted to it (a full pool would deadlock);
+     * work that does, such as a whole repo-list fetch, belongs on backgroundExecutor.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService githubExecutor(
+            @Value("${github.api.executor-threads}") int threads,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        return newExecutor("github-io-", threads, virtualThreads);
+    }
+
+    /**
+     * Executor for work started on behalf of a user but not awaited by the request that triggered it
+     * (e.g. refreshing repo lists in the background, see RepoRefreshScheduler). Sized separately so background fetches cannot
+     * starve the github-io pool that they themselves fan out to.
+     * <p>
+     * Tasks on this executor must not wait for other tasks on it either: a refresh started from here goes through
+     * ReposService.refreshMyReposAsync, which joins a fetch already queued for the login instead of blocking on it.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService backgroundExecutor(
+            @Value("${github.api.background-threads}") int threads,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        return newExecutor("background-", threads, virtualThreads);
+    }
+
+    private static ExecutorService newExecutor(String namePrefix, int threads, boolean virtualThreads) {
+        ContextSnapshotFactory snapshots = ContextSnapshotFactory.builder().build();
+        if (virtualThreads) {
+            return ContextExecutorService.wrap(
+                    Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(namePrefix + "vt-", 0).factory()),
+                    snapshots);
+        }
+
+        AtomicInteger counter = new AtomicInteger();
+        ThreadFactory factory = runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return ContextExecutorService.wrap(Executors.newFixedThreadPool(threads, factory), snapshots);
+    }
+}
@@ -0,0 +1,175 @@
+package com.githubrepoexplorerbackend.config;
+
+import com.githubrepoexplorerbackend.cache.CacheStats;
+import com.githubrepoexplorerbackend.cache.ConditionalResponseCache;
+import com.githubrepoexplorerbackend.cache.RepoListCache;
+import com.githubrepoexplorerbackend.cache.UserTokenCache;
+import com.githubrepoexplorerbackend.client.Bulkhead;
+import com.githubrepoexplorerbackend.client.CircuitBreaker;
+import com.githubrepoexplorerbackend.client.GitHubHttpClient;
+import com.githubrepoexplorerbackend.client.GitHubResilienceInterceptor;
+import com.githubrepoexplorerbackend.filter.RateLimitFilter;
+import com.githubrepoexplorerbackend.service.GitHubRateLimitTracker;
+import com.githubrepoexplorerbackend.service.RepoRefreshScheduler;
+import com.githubrepoexplorerbackend.service.ReposService;
+import com.githubrepoexplorerbackend.service.TokenWriteBehindQueue;
+import com.githubrepoexplorerbackend.service.UserActivityTracker;
+import io.micrometer.common.KeyValues;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.http.server.observation.ServerRequestObservationConvention;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.function.Function;
+
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Application meters that Spring Boot does not provide out of the box. Request latency
+     * (http.server.requests), outbound GitHub latency (http.client.requests) and UserTokenRepository timings
+     * (spring.data.repository.invocations) are auto-instrumented; percentiles are configured in application.yaml.
+     * <p>
+     * Registered here:
+     * - cache.gets{cache,result=hit|miss}, cache.evictions, cache.size for the response, token and repo-list caches
+     * - github.ratelimit.remaining.min / github.ratelimit.low.tokens
+     * - github.http.pool.{leased,pending,available,max}
+     * - github.repos.coalesced
+     * - github.repos.refreshed / github.repos.refresh.skipped / users.active (background refresh)
+     * - user.tokens.write.pending / user.tokens.write.flushed (token write-behind)
+     * - github.circuit.state / github.circuit.rejected and github.bulkhead.in.use / github.bulkhead.rejected,
+     *   tagged client=oauth|repos (GitHubResilienceInterceptor)
+     * - http.rate.limited{route,limit=login|ip|global}: requests rejected with 429 by RateLimitFilter
+     */
+    @Bean
+    public MeterBinder githubMeters(
+            ConditionalResponseCache responseCache,
+            UserTokenCache tokenCache,
+            RepoListCache repoListCache,
+            GitHubRateLimitTracker rateLimitTracker,
+            GitHubHttpClient gitHubHttpClient,
+            ReposService reposService,
+            TokenWriteBehindQueue tokenWriteBehind,
+            RepoRefreshScheduler repoRefreshScheduler,
+            UserActivityTracker activityTracker,
+            RateLimitFilter rateLimitFilter
+    ) {
+        return registry -> {
+            bindCache(registry, "github.responses", responseCache, ConditionalResponseCache::stats);
+            bindCache(registry, "user.tokens", tokenCache, UserTokenCache::stats);
+            bindCache(registry, "repo.lists", repoListCache, RepoListCache::stats);
+
+            Gauge.builder("github.ratelimit.remaining.min", rateLimitTracker, GitHubRateLimitTracker::minRemaining)
+                    .description("Lowest remaining GitHub quota across tracked tokens (-1 if none)")
+                    .register(registry);
+            Gauge.builder("github.ratelimit.low.tokens", rateLimitTracker, GitHubRateLimitTracker::lowTokenCount)
+                    .description("Tracked tokens below the rate-limit low watermark")
+                    .register(registry);
+
+            Gauge.builder("github.http.pool.leased", gitHubHttpClient, c -> c.poolMetrics().leased()).register(registry);
+            Gauge.builder("github.http.pool.pending", gitHubHttpClient, c -> c.poolMetrics().pending()).register(registry);
+            Gauge.builder("github.http.pool.available", gitHubHttpClient, c -> c.poolMetrics().available()).register(registry);
+            Gauge.builder("github.http.pool.max", gitHubHttpClient, c -> c.poolMetrics().max()).register(registry);
+
+            FunctionCounter.builder("github.repos.coalesced", reposService, ReposService::coalescedFetchCount)
+                    .description("Repo fetches served by joining an in-flight fetch for the same user")
+                    .register(registry);
+            FunctionCounter.builder("github.repos.refreshed", repoRefreshScheduler, RepoRefreshScheduler::refreshedCount)
+                    .description("Repo lists refreshed in the background")
+                    .register(registry);
+            FunctionCounter.builder("github.repos.refresh.skipped", repoRefreshScheduler, RepoRefreshScheduler::skippedForBudgetCount)
+                    .description("Background refreshes skipped to preserve the user's GitHub quota")
+                    .tag("reason", "rate-limit")
+                    .register(registry);
+            Gauge.builder("users.active", activityTracker, UserActivityTracker::activeCount)
+                    .description("Logins active within github.repo-refresh.active-window")
+                    .register(registry);
+            Gauge.builder("user.tokens.write.pending", tokenWriteBehind, TokenWriteBehindQueue::pending)
+                    .description("Login tokens cached but not yet persisted")
+                    .register(registry);
+            FunctionCounter.builder("user.tokens.write.flushed", tokenWriteBehind, TokenWriteBehindQueue::flushedCount)
+                    .description("Token writes persisted by batched write-behind flushes")
+                    .register(registry);
+
+            GitHubResilienceInterceptor resilience = gitHubHttpClient.resilience();
+            bindCircuitBreaker(registry, resilience.oauthCircuitBreaker());
+            bindCircuitBreaker(registry, resilience.reposCircuitBreaker());
+            bindBulkhead(registry, resilience.oauthBulkhead());
+            bindBulkhead(registry, resilience.reposBulkhead());
+
+            for (RateLimitFilter.LimitedRoute route : rateLimitFilter.routes()) {
+                for (RateLimitFilter.LimitType type : RateLimitFilter.LimitType.values()) {
+                    FunctionCounter.builder("http.rate.limited", route, r -> r.rejectedCount(type))
+                            .description("Requests rejected with 429 by the API rate limiter")
+                            .tags("route", route.name(), "limit", type.tag())
+                            .register(registry);
+                }
+            }
+        };
+    }
+
+    /**
+     * Adds a `handler` tag (e.g. ReposController.searchRepos) to http.server.requests, so latency is broken down
+     * per controller method and not only per uri (/api/repos serves several handler methods).
+     */
+    @Bean
+    public ServerRequestObservationConvention handlerTaggingObservationConvention() {
+        return new DefaultServerRequestObservationConvention() {
+            @Override
+            public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+                Object handler = context.getCarrier().getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+                String name = handler instanceof HandlerMethod method
+                        ? method.getBeanType().getSimpleName() + "." + method.getMethod().getName()
+                        : "none";
+                return super.getLowCardinalityKeyValues(context).and("handler", name);
+            }
+        };
+    }
+
+    private static void bindCircuitBreaker(MeterRegistry registry, CircuitBreaker breaker) {
+        Gauge.builder("github.circuit.state", breaker, b -> b.state().ordinal())
+                .description("GitHub circuit breaker state: 0 closed, 1 open, 2 half-open")
+                .tag("client", breaker.name())
+                .register(registry);
+        FunctionCounter.builder("github.circuit.rejected", breaker, CircuitBreaker::rejectedCount)
+                .description("GitHub calls rejected by an open circuit")
+                .tag("client", breaker.name())
+                .register(registry);
+    }
+
+    private static void bindBulkhead(MeterRegistry registry, Bulkhead bulkhead) {
+        Gauge.builder("github.bulkhead.in.use", bulkhead, Bulkhead::inUse)
+                .description("Concurrent GitHub calls holding a bulkhead slot")
+                .tag("client", bulkhead.name())
+                .register(registry);
+        FunctionCounter.builder("github.bulkhead.rejected", bulkhead, Bulkhead::rejectedCount)
+                .description("GitHub calls rejected because the bulkhead stayed full")
+                .tag("client", bulkhead.name())
+                .register(registry);
+    }
+
+    /**
+     * Meters hold their state object weakly, so the long-lived cache bean (not a method reference) is registered.
+     */
+    private static <T> void bindCache(MeterRegistry registry, String name, T cache, Function<T, CacheStats> stats) {
+        FunctionCounter.builder("cache.gets", cache, c -> stats.apply(c).hits())
+                .tags("cache", name, "result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", cache, c -> stats.apply(c).misses())
+                .tags("cache", name, "result", "miss")
+                .register(registry);
+        FunctionCounter.builder("cache.evictions", cache, c -> stats.apply(c).evictions())
+                .tag("cache", name)
+                .register(registry);
+        Gauge.builder("cache.size", cache, c -> stats.apply(c).size())
+                .tag("cache", name)
+                .register(registry);
+    }
+}
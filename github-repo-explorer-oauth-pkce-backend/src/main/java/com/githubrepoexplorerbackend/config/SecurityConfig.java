@@ -1,18 +1,30 @@
 package com.githubrepoexplorerbackend.config;
 
+import com.githubrepoexplorerbackend.security.SignedCookieSecurityContextRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.security.web.context.SecurityContextRepository;
 import org.springframework.web.cors.CorsConfiguration;
 
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.List;
 
 @Configuration
 public class SecurityConfig {
 
+    private static final Logger log = LoggerFactory.getLogger(SecurityConfig.class);
+
     private static final String[] SWAGGER_WHITELIST = {
             "/v3/api-docs",
             "/v3/api-docs/**",
@@ -28,23 +40,31 @@ public class SecurityConfig {
      * Configure the Spring Security filter chain.
      * Execution:
      * - Disable CSRF
-     * - Use HttpSession to persist SecurityContext when user authenticates.
+     * - Persist the SecurityContext with the configured SecurityContextRepository (app.session.mode);
+     *   in signed-cookie mode no HttpSession is ever created.
      * - Configure CORS to allow requests from the frontend origin during local dev.
-     * - Allow unauthenticated access to the OAuth endpoints, H2 console and OpenAPI UI.
+     * - Allow unauthenticated access to the OAuth endpoints, H2 console, OpenAPI UI and the health/Prometheus scrape endpoints.
      * - Require authentication for all other endpoints.
      */
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(
+            HttpSecurity http,
+            SecurityContextRepository securityContextRepository
+    ) throws Exception {
 
         http
                 .csrf(csrf -> csrf.disable())
 
                 .securityContext(context -> context
-                        .securityContextRepository(
-                                new HttpSessionSecurityContextRepository()
-                        )
+                        .securityContextRepository(securityContextRepository)
                 )
 
+                .sessionManagement(session -> session.sessionCreationPolicy(
+                        securityContextRepository instanceof SignedCookieSecurityContextRepository
+                                ? SessionCreationPolicy.STATELESS
+                                : SessionCreationPolicy.IF_REQUIRED
+                ))
+
                 .cors(cors -> cors.configurationSource(request -> {
                     CorsConfiguration config = new CorsConfiguration();
                     config.setAllowedOrigins(List.of("http://localhost:4200"));
@@ -61,6 +81,7 @@ public class SecurityConfig {
                         .requestMatchers(SWAGGER_WHITELIST).permitAll()
                         .requestMatchers("/api/auth/**").permitAll()
                         .requestMatchers("/h2-console/**").permitAll()
+                        .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
                         .anyRequest().authenticated()
                 )
 
@@ -70,4 +91,37 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * Where the authenticated SecurityContext lives between requests (app.session.mode):
+     * - session (default): in the servlet HttpSession (JSESSIONID), i.e. on the node that handled the login.
+     * - signed-cookie: in an HMAC-signed cookie carrying login and expiry, verified without server-side state,
+     *   so any node sharing app.session.signing-key can serve the user.
+     * <p>
+     * A blank signing key in signed-cookie mode gets a random per-process key: cookies then do not survive
+     * a restart and are not accepted by other nodes.
+     */
+    @Bean
+    public SecurityContextRepository securityContextRepository(
+            @Value("${app.session.mode}") String mode,
+            @Value("${app.session.signing-key}") String signingKey,
+            @Value("${app.session.cookie-name}") String cookieName,
+            @Value("${app.session.ttl}") Duration ttl,
+            @Value("${server.servlet.session.cookie.secure:false}") boolean secureCookie
+    ) {
+        return switch (mode) {
+            case "session" -> new HttpSessionSecurityContextRepository();
+            case "signed-cookie" -> {
+                byte[] key = signingKey.getBytes(StandardCharsets.UTF_8);
+                if (signingKey.isBlank()) {
+                    log.warn("app.session.signing-key is not set; using a random key valid for this process only");
+                    key = new byte[32];
+                    new SecureRandom().nextBytes(key);
+                } else if (key.length < 32) {
+                    throw new IllegalStateException("app.session.signing-key must be at least 32 bytes");
+                }
+                yield new SignedCookieSecurityContextRepository(key, cookieName, ttl, secureCookie, Clock.systemUTC());
+            }
+            default -> throw new IllegalStateException("Unknown app.session.mode: " + mode);
+        };
+    }
 }
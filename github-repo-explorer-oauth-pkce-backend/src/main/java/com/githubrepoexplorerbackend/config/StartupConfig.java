@@ -0,0 +1,46 @@
+package com.githubrepoexplorerbackend.config;
+
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.type.MethodMetadata;
+
+@Configuration
+public class StartupConfig {
+
+    private static final String SPRINGDOC_PACKAGE = "org.springdoc.";
+
+    /**
+     * With `app.startup.lazy-springdoc=true` (prod profile), springdoc's beans (OpenAPI model builders, the
+     * api-docs and Swagger UI controllers, their scanners) are marked lazy, so they are created on the first
+     * /v3/api-docs or /swagger-ui request instead of during startup. Their request mappings are still registered
+     * at startup; only the instances are deferred.
+     * <p>
+     * Under AOT (fast-startup Maven profile) this runs at build time and the lazy flags are baked into the
+     * generated bean definitions.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.startup.lazy-springdoc", havingValue = "true")
+    static BeanFactoryPostProcessor lazySpringdocBeans() {
+        return beanFactory -> {
+            for (String name : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(name);
+                if (isSpringdoc(definition)) {
+                    definition.setLazyInit(true);
+                }
+            }
+        };
+    }
+
+    private static boolean isSpringdoc(BeanDefinition definition) {
+        String className = definition.getBeanClassName();
+        if (className == null && definition instanceof AnnotatedBeanDefinition annotated) {
+            MethodMetadata factoryMethod = annotated.getFactoryMethodMetadata();
+            className = factoryMethod != null ? factoryMethod.getDeclaringClassName() : null;
+        }
+        return className != null && className.startsWith(SPRINGDOC_PACKAGE);
+    }
+}
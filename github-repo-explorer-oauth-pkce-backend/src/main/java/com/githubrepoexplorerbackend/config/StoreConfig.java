@@ -0,0 +1,52 @@
+package com.githubrepoexplorerbackend.config;
+
+import com.githubrepoexplorerbackend.cache.JdbcTokenInvalidationBus;
+import com.githubrepoexplorerbackend.cache.LocalTokenInvalidationBus;
+import com.githubrepoexplorerbackend.cache.TokenInvalidationBus;
+import org.h2.tools.Server;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.SQLException;
+import java.time.Duration;
+
+@Configuration
+public class StoreConfig {
+
+    /**
+     * How per-node token near-caches learn about token writes made by other nodes (app.store.invalidation):
+     * - none (default): single node, nothing to notify.
+     * - jdbc: invalidation rows in the shared database, polled by every node (JdbcTokenInvalidationBus).
+     * <p>
+     * Depends on entityManagerFactory so the token_invalidations table exists before the bus reads it.
+     */
+    @Bean
+    @DependsOn("entityManagerFactory")
+    public TokenInvalidationBus tokenInvalidationBus(
+            @Value("${app.store.invalidation}") String invalidation,
+            @Value("${app.store.poll-interval}") Duration pollInterval,
+            @Value("${app.store.retention}") Duration retention,
+            JdbcTemplate jdbcTemplate
+    ) {
+        return switch (invalidation) {
+            case "none" -> new LocalTokenInvalidationBus();
+            case "jdbc" -> new JdbcTokenInvalidationBus(jdbcTemplate, pollInterval, retention);
+            default -> throw new IllegalStateException("Unknown app.store.invalidation: " + invalidation);
+        };
+    }
+
+    /**
+     * Optional embedded H2 TCP server (app.store.tcp-server.enabled), so nodes on other hosts can share this
+     * node's token database via jdbc:h2:tcp://<host>:<port>/./data/githubdb;MODE=PostgreSQL.
+     * Nodes on the same host can instead all open the file with AUTO_SERVER=TRUE (see application-shared.yaml).
+     */
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    @ConditionalOnProperty(name = "app.store.tcp-server.enabled", havingValue = "true")
+    public Server h2TcpServer(@Value("${app.store.tcp-server.port}") int port) throws SQLException {
+        return Server.createTcpServer("-tcpPort", String.valueOf(port), "-tcpAllowOthers", "-ifExists");
+    }
+}
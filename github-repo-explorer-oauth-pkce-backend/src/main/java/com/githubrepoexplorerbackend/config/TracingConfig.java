@@ -0,0 +1,41 @@
+package com.githubrepoexplorerbackend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.githubrepoexplorerbackend.tracing.FileSpanExporter;
+import io.opentelemetry.exporter.logging.LoggingSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+@Configuration
+public class TracingConfig {
+
+    /**
+     * Span exporter selection (app.tracing.exporter). Spring Boot registers every SpanExporter bean with the
+     * OpenTelemetry tracer, so another exporter (e.g. OTLP) can be plugged in by declaring its bean instead.
+     * <p>
+     * - none: spans are created (and propagated via traceparent) but not exported (default)
+     * - log:  one log line per span via OpenTelemetry's LoggingSpanExporter
+     * - file: JSON Lines written to app.tracing.file, rotated at app.tracing.file-max-size (dev profile)
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.tracing.exporter", havingValue = "file")
+    public SpanExporter fileSpanExporter(@Value("${app.tracing.file}") String file,
+                                         @Value("${app.tracing.file-max-size:10MB}") DataSize maxSize,
+                                         @Value("${app.tracing.file-max-files:5}") int maxFiles,
+                                         ObjectMapper objectMapper) throws IOException {
+        return new FileSpanExporter(Path.of(file), maxSize.toBytes(), maxFiles, objectMapper);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.tracing.exporter", havingValue = "log")
+    public SpanExporter loggingSpanExporter() {
+        return LoggingSpanExporter.create();
+    }
+}
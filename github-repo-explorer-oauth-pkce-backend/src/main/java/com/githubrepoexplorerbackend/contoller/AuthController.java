@@ -3,14 +3,18 @@ package com.githubrepoexplorerbackend.contoller;
 
 import com.githubrepoexplorerbackend.dto.AuthExchangeRequest;
 import com.githubrepoexplorerbackend.entity.UserToken;
-import com.githubrepoexplorerbackend.exception.OAuthExchangeException;
+import com.githubrepoexplorerbackend.exception.GitHubUnavailableException;
 import com.githubrepoexplorerbackend.repository.UserTokenRepository;
 import com.githubrepoexplorerbackend.service.GitHubOAuthService;
+import com.githubrepoexplorerbackend.service.RepoRefreshScheduler;
+import com.githubrepoexplorerbackend.service.TokenWriteBehindQueue;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -18,15 +22,19 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.security.web.context.SecurityContextRepository;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.View;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionException;
 
 @RestController
 @RequestMapping("/api/auth")
@@ -34,61 +42,121 @@ public class AuthController {
 
     private static final Logger log = LoggerFactory.getLogger(AuthController.class);
 
-    private final GitHubOAuthService oAuthService;
+    /**
+     * Slack on top of the GitHub timeouts for the hand-offs between the servlet, executor and dispatch threads.
+     */
+    private static final Duration EXCHANGE_TIMEOUT_MARGIN = Duration.ofSeconds(5);
 
-    public AuthController(GitHubOAuthService oAuthService) {
+    private final GitHubOAuthService oAuthService;
+    private final TokenWriteBehindQueue tokenWriteBehind;
+    private final RepoRefreshScheduler repoRefreshScheduler;
+    private final SecurityContextRepository securityContextRepository;
+
+    public AuthController(
+            GitHubOAuthService oAuthService,
+            TokenWriteBehindQueue tokenWriteBehind,
+            RepoRefreshScheduler repoRefreshScheduler,
+            SecurityContextRepository securityContextRepository
+    ) {
         this.oAuthService = oAuthService;
+        this.tokenWriteBehind = tokenWriteBehind;
+        this.repoRefreshScheduler = repoRefreshScheduler;
+        this.securityContextRepository = securityContextRepository;
     }
 
+    @Value("${github.api.connect-timeout}")
+    Duration connectTimeout;
+
+    @Value("${github.api.read-timeout}")
+    Duration readTimeout;
+
+    @Value("${github.resilience.bulkhead.max-wait}")
+    Duration bulkheadMaxWait;
+
     /**
      * POST /api/auth/exchange
      * <p>
      * Execution flow:
      * 1. Receive authorization code, code_verifier and redirectUri from the frontend.
-     * 2. Call GitHubOAuthService.exchangeCode(...) to exchange the code for tokens.
+     * 2. Call GitHubOAuthService.exchangeCodeAsync(...) to exchange the code for tokens.
      * 3. Fetch the GitHub user's login using the obtained access_token.
-     * 4. Upsert the user's access token into the database.
-     * 5. Create a Spring Security Authentication object and store it in the user's HTTP session.
+     * 4. Hand the access token to the write-behind queue (cached immediately, upserted into the database
+     *    in the background) and start refreshing the user's repo list (RepoRefreshScheduler).
+     * 5. Create a Spring Security Authentication object and save it with the SecurityContextRepository
+     *    (HTTP session or signed cookie, see SecurityConfig).
+     * <p>
+     * The handler returns a DeferredResult, so the servlet thread is released while GitHub responds. Steps 2-3 run
+     * on the GitHub I/O executor and only produce the login and token. Steps 4-5 touch the request, session and
+     * response, so they run when the result is rendered on the container's async dispatch thread (see signIn);
+     * if the request timed out or failed (e.g. the client disconnected) in the meantime, there is no dispatch
+     * and nothing is stored.
      * <p>
      * Error modes:
      * - If the token exchange fails, OAuthExchangeException is thrown (handled by GlobalExceptionHandler -> 502).
      * - If fetching the GitHub user fails, a RuntimeException is thrown (handled -> 500).
+     * - If both calls together take longer than exchangeTimeout, GitHubUnavailableException (-> 503).
      */
     @PostMapping("/exchange")
-    public ResponseEntity<Void> exchange(
-            @Valid @RequestBody AuthExchangeRequest req,
-            HttpServletRequest httpRequest
-    ) {
+    public DeferredResult<View> exchange(@Valid @RequestBody AuthExchangeRequest req) {
         log.info("Starting token exchange for code (len={})", req.code().length());
 
-        Map<String, Object> tokenRes;
-        try {
-            tokenRes = oAuthService.exchangeCode(
-                    req.code(),
-                    req.codeVerifier(),
-                    req.redirectUri()
-            );
-        } catch (OAuthExchangeException e) {
-            log.error("OAuth exchange failed", e);
-            throw e; // handled by GlobalExceptionHandler
-        }
+        Duration timeout = exchangeTimeout();
+        DeferredResult<View> result = new DeferredResult<>(timeout.toMillis());
+        result.onTimeout(() -> result.setErrorResult(
+                new GitHubUnavailableException("GitHub login did not complete within " + timeout.toSeconds() + "s", 1)));
+
+        oAuthService.exchangeCodeAsync(req.code(), req.codeVerifier(), req.redirectUri())
+                .thenCompose(tokenRes -> {
+                    String accessToken = (String) tokenRes.get("access_token");
+                    String tokenType = (String) tokenRes.getOrDefault("token_type", "bearer");
+                    String scope = (String) tokenRes.getOrDefault("scope", "");
+
+                    return oAuthService.fetchGitHubLoginAsync(accessToken)
+                            .thenApply(githubLogin -> new ExchangedToken(githubLogin, accessToken, tokenType, scope));
+                })
+                .whenComplete((token, e) -> {
+                    if (e != null) {
+                        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                        log.error("OAuth exchange failed", cause);
+                        result.setErrorResult(cause);
+                    } else if (!result.setResult(signIn(token))) {
+                        log.info("Login of user={} completed after the request ended, not signing in", token.githubLogin());
+                    }
+                });
+        return result;
+    }
 
-        String accessToken = (String) tokenRes.get("access_token");
-        String tokenType = (String) tokenRes.getOrDefault("token_type", "bearer");
-        String scope = (String) tokenRes.getOrDefault("scope", "");
+    /**
+     * Upper bound for POST /api/auth/exchange: two sequential GitHub calls (token exchange, then /user), each
+     * waiting at most for a bulkhead slot, a pooled connection (connect-timeout), the connect and the read.
+     */
+    Duration exchangeTimeout() {
+        Duration perCall = bulkheadMaxWait.plus(connectTimeout).plus(connectTimeout).plus(readTimeout);
+        return perCall.multipliedBy(2).plus(EXCHANGE_TIMEOUT_MARGIN);
+    }
 
-        // 1️ Fetch GitHub login
-        String githubLogin = oAuthService.fetchGitHubLogin(accessToken);
+    /**
+     * The exchange's response: rendered by the DispatcherServlet on the async dispatch thread, where the request
+     * and response may be used. Stores the token, warms the repo list, saves the SecurityContext and answers 200.
+     */
+    private View signIn(ExchangedToken token) {
+        return (model, httpRequest, httpResponse) -> {
+            // Cache token now, persist it in the background, warm the repo list
+            tokenWriteBehind.enqueue(token.githubLogin(), token.accessToken(), token.tokenType(), token.scope());
+            repoRefreshScheduler.refreshNow(token.githubLogin());
 
-        // 2 Upsert token
-        oAuthService.saveOrUpdate(
-                githubLogin,
-                accessToken,
-                tokenType,
-                scope
-        );
+            establishSession(httpRequest, httpResponse, token.githubLogin());
+            log.info("Authentication created for user={}", token.githubLogin());
+
+            httpResponse.setStatus(HttpStatus.OK.value());
+        };
+    }
 
-        // 3️ Create authentication
+    /**
+     * Save an authenticated SecurityContext for the login (rotating the session id in session mode).
+     * The context is handed to the repository only and never to this thread's SecurityContextHolder.
+     */
+    private void establishSession(HttpServletRequest httpRequest, HttpServletResponse httpResponse, String githubLogin) {
         Authentication authentication =
                 new UsernamePasswordAuthenticationToken(
                         githubLogin,
@@ -96,22 +164,13 @@ public class AuthController {
                         List.of(new SimpleGrantedAuthority("ROLE_USER"))
                 );
 
-        // 4 Persist SecurityContext
         SecurityContext context = SecurityContextHolder.createEmptyContext();
         context.setAuthentication(authentication);
-        SecurityContextHolder.setContext(context);
-
-        HttpSession session = httpRequest.getSession(true);
-        session.setAttribute(
-                HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY,
-                context
-        );
-        httpRequest.changeSessionId();
-
-        log.info("Authentication created for user={}", githubLogin);
 
-        // 5  Explicit success response
-        return ResponseEntity.ok().build();
+        securityContextRepository.saveContext(context, httpRequest, httpResponse);
+        if (httpRequest.getSession(false) != null) {
+            httpRequest.changeSessionId();
+        }
     }
 
     /**
@@ -139,15 +198,21 @@ public class AuthController {
     /**
      * POST /api/auth/logout
      * <p>
-     * Invalidate the current HTTP session — this removes the SecurityContext and
-     * effectively logs the user out of the server-side session.
+     * Invalidate the current HTTP session (if any) and clear the stored SecurityContext — this removes
+     * the session attribute in session mode and expires the signed cookie in signed-cookie mode.
      */
     @PostMapping("/logout")
-    public void logout(HttpSession session) {
-        session.invalidate();
+    public void logout(HttpServletRequest request, HttpServletResponse response) {
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            session.invalidate();
+        }
+        securityContextRepository.saveContext(SecurityContextHolder.createEmptyContext(), request, response);
     }
 
-
-
-
+    /**
+     * Result of the GitHub calls of one exchange.
+     */
+    private record ExchangedToken(String githubLogin, String accessToken, String tokenType, String scope) {
+    }
 }
@@ -1,46 +1,200 @@
 package com.githubrepoexplorerbackend.contoller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.githubrepoexplorerbackend.cache.EncodedRepoList;
+import com.githubrepoexplorerbackend.cache.RepoListCache.CachedRepoList;
+import com.githubrepoexplorerbackend.dto.RepoQuery;
+import com.githubrepoexplorerbackend.dto.RepoSearchResult;
 import com.githubrepoexplorerbackend.dto.RepoSummary;
-import com.githubrepoexplorerbackend.entity.UserToken;
-import com.githubrepoexplorerbackend.exception.TokenNotFoundException;
-import com.githubrepoexplorerbackend.repository.UserTokenRepository;
+import com.githubrepoexplorerbackend.service.RepoSearchService;
 import com.githubrepoexplorerbackend.service.ReposService;
+import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpEntity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/repos")
 public class ReposController {
 
+    private static final Logger log = LoggerFactory.getLogger(ReposController.class);
+
     @Autowired
     ReposService reposService;
+
+    @Autowired
+    RepoSearchService repoSearchService;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    /**
+     * Browsers may keep the list but must revalidate it (If-None-Match) before every use; shared caches must not
+     * store it.
+     */
+    private static final CacheControl REPOS_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    /**
+     * Set to "true" when the list is the last known good one served while GitHub is unavailable, slow or rate
+     * limited; Age then carries its age in seconds.
+     */
+    static final String STALE_HEADER = "X-Repos-Stale";
+
+    @Value("${server.compression.min-response-size:2KB}")
+    DataSize compressionMinSize;
+
     /**
      * GET /api/repos
      *
      * Execution flow:
      * 1. Ensure the incoming request has an authenticated principal (Spring injects Authentication).
-     * 2. Use the principal name as the githubLogin and call getMyRepos(githubLogin).
+     * 2. Use the principal name as the githubLogin and call getMyReposEncoded(githubLogin).
+     * 3. Write the list's precomputed body: gzip when the client accepts gzip and the JSON is at least
+     *    `server.compression.min-response-size`, otherwise the plain JSON (inflated from the gzip bytes).
+     *    Nothing is serialized per request.
+     * 4. Send the representation's strong ETag. Spring answers 304 Not Modified without a body when
+     *    If-None-Match matches.
+     * 5. If the list is stale (see ReposService.getMyReposEncoded), add X-Repos-Stale: true and Age.
+     * <p>
+     * Compression happens when the list is cached rather than in Tomcat because Tomcat never compresses
+     * responses carrying a strong ETag.
+     * <p>
+     * Only matches when no search/paging parameter is present (see searchRepos) and `stream` is absent or anything
+     * but `true` (see streamMyReposByFlag).
      */
-    @GetMapping
-    public List<RepoSummary> myRepos(Authentication authentication) {
+    @GetMapping(
+            params = {"!q", "!language", "!minStars", "!sort", "!page", "!size", "stream!=true"},
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public ResponseEntity<byte[]> myRepos(
+            Authentication authentication,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
         if (authentication == null) {
             throw new RuntimeException("Not authenticated");
         }
 
-        return reposService.getMyRepos(authentication.getName());
+        CachedRepoList list = reposService.getMyReposEncoded(authentication.getName());
+        EncodedRepoList encoded = list.encoded();
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .cacheControl(REPOS_CACHE_CONTROL)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (reposService.isStale(list)) {
+            response.header(STALE_HEADER, "true")
+                    .header(HttpHeaders.AGE, String.valueOf(Duration.between(list.fetchedAt(), Instant.now()).toSeconds()));
+        }
+        if (encoded.jsonLength() >= compressionMinSize.toBytes() && acceptsGzip(acceptEncoding)) {
+            return response.eTag(encoded.gzipEtag())
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .body(encoded.gzip());
+        }
+        return response.eTag(encoded.etag()).body(encoded.json());
+    }
+
+    /**
+     * GET /api/repos?q=&language=&minStars=&sort=stars|name&page=&size=
+     * <p>
+     * Server-side search over the user's cached repositories. Returns one page of matches plus the total
+     * count, instead of shipping the full list to the browser for client-side filtering.
+     */
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public RepoSearchResult searchRepos(Authentication authentication, @Valid RepoQuery query) {
+        if (authentication == null) {
+            throw new RuntimeException("Not authenticated");
+        }
+
+        return repoSearchService.search(authentication.getName(), query);
+    }
+
+    /**
+     * GET /api/repos with `Accept: application/x-ndjson`
+     *
+     * Streaming variant of myRepos: writes one RepoSummary JSON object per line and flushes after every
+     * GitHub page, so the client receives the first repositories while later pages are still being fetched
+     * and the server never holds the full list in memory.
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamMyRepos(Authentication authentication) {
+        if (authentication == null) {
+            throw new RuntimeException("Not authenticated");
+        }
+
+        String githubLogin = authentication.getName();
+        StreamingResponseBody body = out -> reposService.streamMyRepos(githubLogin, page -> writePage(out, page));
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    /**
+     * GET /api/repos?stream=true — same as streamMyRepos, for clients that cannot set the Accept header.
+     */
+    @GetMapping(params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamMyReposByFlag(Authentication authentication) {
+        return streamMyRepos(authentication);
+    }
+
+    /**
+     * True if the Accept-Encoding header lists gzip (or *) without q=0.
+     */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            if (!name.equalsIgnoreCase("gzip") && !name.equals("*")) {
+                continue;
+            }
+            boolean refused = parts.length > 1 && parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            return !refused;
+        }
+        return false;
+    }
+
+    /**
+     * Serialize a page off-lock, then append it to the response and flush. Pages are delivered from
+     * several fetch threads, so writes to the shared output stream are serialized on it.
+     */
+    private void writePage(OutputStream out, List<RepoSummary> page) {
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(page.size() * 256);
+            for (RepoSummary repo : page) {
+                buffer.write(objectMapper.writeValueAsBytes(repo));
+                buffer.write('\n');
+            }
+            synchronized (out) {
+                buffer.writeTo(out);
+                out.flush();
+            }
+        } catch (IOException e) {
+            log.warn("Failed to write repo page to stream: {}", e.getMessage());
+            throw new UncheckedIOException(e);
+        }
     }
 
 }
@@ -0,0 +1,37 @@
+package com.githubrepoexplorerbackend.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+
+/**
+ * Query parameters for GET /api/repos search/filter/sort/paging.
+ * <p>
+ * - q: whitespace-separated terms; each term must prefix-match a word of the repo name or description
+ * - language: exact (case-insensitive) primary language
+ * - minStars: minimum stargazers_count
+ * - sort: `stars` (descending) or `name` (ascending); GitHub order when absent
+ * - page/size: zero-based page index and page size
+ */
+public record RepoQuery(
+        String q,
+        String language,
+        @Min(0) Integer minStars,
+        @Pattern(regexp = "stars|name") String sort,
+        @Min(0) Integer page,
+        @Min(1) @Max(100) Integer size
+) {
+    public static final int DEFAULT_SIZE = 30;
+
+    public int pageOrDefault() {
+        return page == null ? 0 : page;
+    }
+
+    public int sizeOrDefault() {
+        return size == null ? DEFAULT_SIZE : size;
+    }
+
+    public int minStarsOrDefault() {
+        return minStars == null ? 0 : minStars;
+    }
+}
@@ -0,0 +1,13 @@
+package com.githubrepoexplorerbackend.dto;
+
+import java.util.List;
+
+/**
+ * One page of repositories matching a RepoQuery, plus the total number of matches.
+ */
+public record RepoSearchResult(
+        List<RepoSummary> items,
+        int total,
+        int page,
+        int size
+) {}
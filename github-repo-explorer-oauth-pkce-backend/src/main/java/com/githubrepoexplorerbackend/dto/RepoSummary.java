@@ -1,25 +1,13 @@
 package com.githubrepoexplorerbackend.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
-import lombok.Data;
-
-@Data
-public class RepoSummary {
-
-    private String name;
-
-    @JsonProperty("full_name")
-    private String fullName;
-
-    @JsonProperty("html_url")
-    private String htmlUrl;
-
-    private String description;
-
-    @JsonProperty("stargazers_count")
-    private int stars;
-
-    @JsonProperty("language")
-    private String language;
 
+public record RepoSummary(
+        String name,
+        @JsonProperty("full_name") String fullName,
+        @JsonProperty("html_url") String htmlUrl,
+        String description,
+        @JsonProperty("stargazers_count") int stars,
+        @JsonProperty("language") String language
+) {
 }
@@ -0,0 +1,29 @@
+package com.githubrepoexplorerbackend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Invalidation message for the per-node token near-caches: "the stored token of githubLogin changed".
+ * Rows are written by JdbcTokenInvalidationBus and polled by every node sharing the database.
+ */
+@Entity
+@Table(name = "token_invalidations", indexes = @Index(columnList = "createdAt"))
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class TokenInvalidation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable=false)
+    private String githubLogin;
+
+    @Column(nullable=false, length = 36)
+    private String nodeId;
+
+    @Column(nullable=false)
+    private Instant createdAt;
+}
@@ -0,0 +1,20 @@
+package com.githubrepoexplorerbackend.exception;
+
+public class GitHubRateLimitException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public GitHubRateLimitException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public GitHubRateLimitException(String message, long retryAfterSeconds, Throwable cause) {
+        super(message, cause);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
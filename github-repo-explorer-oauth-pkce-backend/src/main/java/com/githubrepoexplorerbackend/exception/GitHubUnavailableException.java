@@ -0,0 +1,19 @@
+package com.githubrepoexplorerbackend.exception;
+
+/**
+ * A GitHub call was not attempted because the circuit breaker for its traffic class is open or its
+ * bulkhead is full (see GitHubResilienceInterceptor).
+ */
+public class GitHubUnavailableException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public GitHubUnavailableException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -1,7 +1,10 @@
 package com.githubrepoexplorerbackend.exception;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.MDC;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -12,11 +15,18 @@ import java.time.Instant;
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
+    private final MeterRegistry meterRegistry;
+
+    public GlobalExceptionHandler(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
     @ExceptionHandler(OAuthExchangeException.class)
     public ResponseEntity<ApiError> handleOAuthExchange(OAuthExchangeException ex, HttpServletRequest req) {
         String requestId = MDC.get("requestId");
         if (requestId == null) requestId = "";
         ApiError err = new ApiError(Instant.now(), HttpStatus.BAD_GATEWAY.value(), "Bad Gateway", ex.getMessage(), req.getRequestURI(), requestId);
+        countError(err);
         return ResponseEntity.status(HttpStatus.BAD_GATEWAY).body(err);
     }
 
@@ -25,14 +35,49 @@ public class GlobalExceptionHandler {
         String requestId = MDC.get("requestId");
         if (requestId == null) requestId = "";
         ApiError err = new ApiError(Instant.now(), HttpStatus.NOT_FOUND.value(), "Not Found", ex.getMessage(), req.getRequestURI(), requestId);
+        countError(err);
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(err);
     }
 
+    @ExceptionHandler(GitHubRateLimitException.class)
+    public ResponseEntity<ApiError> handleRateLimit(GitHubRateLimitException ex, HttpServletRequest req) {
+        String requestId = MDC.get("requestId");
+        if (requestId == null) requestId = "";
+        ApiError err = new ApiError(Instant.now(), HttpStatus.TOO_MANY_REQUESTS.value(), "Too Many Requests", ex.getMessage(), req.getRequestURI(), requestId);
+        countError(err);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(err);
+    }
+
+    @ExceptionHandler(GitHubUnavailableException.class)
+    public ResponseEntity<ApiError> handleUnavailable(GitHubUnavailableException ex, HttpServletRequest req) {
+        String requestId = MDC.get("requestId");
+        if (requestId == null) requestId = "";
+        ApiError err = new ApiError(Instant.now(), HttpStatus.SERVICE_UNAVAILABLE.value(), "Service Unavailable", ex.getMessage(), req.getRequestURI(), requestId);
+        countError(err);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(err);
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<ApiError> handleRuntime(RuntimeException ex, HttpServletRequest req) {
         String requestId = MDC.get("requestId");
         if (requestId == null) requestId = "";
         ApiError err = new ApiError(Instant.now(), HttpStatus.INTERNAL_SERVER_ERROR.value(), "Internal Server Error", ex.getMessage(), req.getRequestURI(), requestId);
+        countError(err);
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(err);
     }
+
+    /**
+     * Count every ApiError returned to clients, tagged by HTTP status and reason phrase.
+     */
+    private void countError(ApiError err) {
+        Counter.builder("api.errors")
+                .tag("status", String.valueOf(err.status()))
+                .tag("error", err.error())
+                .register(meterRegistry)
+                .increment();
+    }
 }
@@ -0,0 +1,251 @@
+package com.githubrepoexplorerbackend.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.githubrepoexplorerbackend.exception.ApiError;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpFilter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Token-bucket rate limits for the API routes configured under `app.rate-limit` (see RateLimitProperties).
+ * <p>
+ * Execution flow for a request matching a route:
+ * 1. Per-login bucket of the authenticated GitHub login, if the route has one and the request is authenticated.
+ * 2. Per-IP bucket of the remote address (behind a proxy, set server.forward-headers-strategy so this is the client).
+ * 3. The global bucket shared by all limited routes.
+ * 4. The first empty bucket rejects the request with 429, an ApiError body and Retry-After; otherwise the chain continues.
+ * <p>
+ * Runs after Spring Security (so the login is known) and after RequestIdFilter (so the ApiError carries the
+ * request id). Buckets are lock-free (TokenBucket) and found through a ConcurrentHashMap read, so the check
+ * takes no lock; the global bucket is striped.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class RateLimitFilter extends HttpFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(RateLimitFilter.class);
+
+    private final boolean enabled;
+    private final List<LimitedRoute> routes;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    public RateLimitFilter(RateLimitProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.enabled = properties.enabled();
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+
+        RateLimitProperties.Limit globalLimit = properties.global();
+        TokenBucket global = globalLimit == null ? null
+                : TokenBucket.striped(globalLimit.capacity(), globalLimit.refillEvery(), properties.globalStripes());
+        this.routes = properties.routes().stream()
+                .map(route -> new LimitedRoute(route, global, properties.maxTrackedKeys()))
+                .toList();
+    }
+
+    @Override
+    protected void doFilter(HttpServletRequest req, HttpServletResponse res, FilterChain chain) throws IOException, ServletException {
+        LimitedRoute route = enabled ? match(req) : null;
+        if (route == null) {
+            chain.doFilter(req, res);
+            return;
+        }
+
+        long now = System.nanoTime();
+        long wait = 0;
+        LimitType rejectedBy = null;
+        String login = route.perLogin != null ? currentLogin() : null;
+        if (login != null && (wait = route.perLogin.tryAcquire(login, now)) > 0) {
+            rejectedBy = LimitType.LOGIN;
+        } else if (route.perIp != null && (wait = route.perIp.tryAcquire(req.getRemoteAddr(), now)) > 0) {
+            rejectedBy = LimitType.IP;
+        } else if (route.global != null && (wait = route.global.tryAcquire(now)) > 0) {
+            rejectedBy = LimitType.GLOBAL;
+        }
+
+        if (rejectedBy == null) {
+            chain.doFilter(req, res);
+        } else {
+            route.rejected.get(rejectedBy).increment();
+            reject(req, res, route, rejectedBy, wait);
+        }
+    }
+
+    /**
+     * The configured routes, for metrics.
+     */
+    public List<LimitedRoute> routes() {
+        return routes;
+    }
+
+    private LimitedRoute match(HttpServletRequest req) {
+        PathContainer path = null;
+        for (LimitedRoute route : routes) {
+            if (route.method != null && !route.method.equalsIgnoreCase(req.getMethod())) {
+                continue;
+            }
+            if (path == null) {
+                path = PathContainer.parsePath(req.getRequestURI().substring(req.getContextPath().length()));
+            }
+            if (route.pattern.matches(path)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    private static String currentLogin() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated() || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    /**
+     * Write the 429 ApiError (the same body GlobalExceptionHandler produces) with Retry-After in whole seconds.
+     */
+    private void reject(HttpServletRequest req, HttpServletResponse res, LimitedRoute route, LimitType type, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        String requestId = MDC.get(RequestIdFilter.MDC_REQUEST_ID);
+        if (requestId == null) requestId = "";
+        ApiError err = new ApiError(Instant.now(), HttpStatus.TOO_MANY_REQUESTS.value(), "Too Many Requests",
+                "Rate limit exceeded (" + route.name + ", " + type.tag + "), retry after " + retryAfterSeconds + "s",
+                req.getRequestURI(), requestId);
+        log.debug("Rate limited {} {} ({} limit of route {})", req.getMethod(), req.getRequestURI(), type.tag, route.name);
+
+        Counter.builder("api.errors")
+                .tag("status", String.valueOf(err.status()))
+                .tag("error", err.error())
+                .register(meterRegistry)
+                .increment();
+
+        res.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        res.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        res.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(res.getOutputStream(), err);
+    }
+
+    public enum LimitType {
+        LOGIN("login"), IP("ip"), GLOBAL("global");
+
+        private final String tag;
+
+        LimitType(String tag) {
+            this.tag = tag;
+        }
+
+        public String tag() {
+            return tag;
+        }
+    }
+
+    /**
+     * One configured route with its per-login and per-IP buckets and rejection counts.
+     */
+    public static final class LimitedRoute {
+
+        private final String name;
+        private final String method;
+        private final PathPattern pattern;
+        private final KeyedBuckets perLogin;
+        private final KeyedBuckets perIp;
+        private final TokenBucket global;
+        private final Map<LimitType, LongAdder> rejected = Map.of(
+                LimitType.LOGIN, new LongAdder(), LimitType.IP, new LongAdder(), LimitType.GLOBAL, new LongAdder());
+
+        private LimitedRoute(RateLimitProperties.Route route, TokenBucket global, int maxTrackedKeys) {
+            this.name = route.name();
+            this.method = route.method() == null ? null : route.method().toUpperCase(Locale.ROOT);
+            this.pattern = PathPatternParser.defaultInstance.parse(route.pattern());
+            this.perLogin = route.perLogin() == null ? null : new KeyedBuckets(route.perLogin(), maxTrackedKeys);
+            this.perIp = route.perIp() == null ? null : new KeyedBuckets(route.perIp(), maxTrackedKeys);
+            this.global = global;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        /**
+         * Requests of this route rejected by the given limit.
+         */
+        public long rejectedCount(LimitType type) {
+            return rejected.get(type).sum();
+        }
+    }
+
+    /**
+     * One bucket per key (login or IP).
+     * <p>
+     * The lookup is a ConcurrentHashMap read; only a key's first request inserts. When maxKeys buckets exist,
+     * buckets that have refilled completely are dropped, since a new bucket would be identical (at most once a
+     * second). Keys that still do not fit, e.g. while a flood of new IPs arrives, share one overflow bucket.
+     */
+    private static final class KeyedBuckets {
+
+        private static final long SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+        private final RateLimitProperties.Limit limit;
+        private final int maxKeys;
+        private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+        private final TokenBucket overflow;
+        private final AtomicLong nextSweep = new AtomicLong(System.nanoTime());
+
+        private KeyedBuckets(RateLimitProperties.Limit limit, int maxKeys) {
+            this.limit = limit;
+            this.maxKeys = maxKeys;
+            this.overflow = TokenBucket.of(limit.capacity(), limit.refillEvery());
+        }
+
+        long tryAcquire(String key, long now) {
+            TokenBucket bucket = buckets.get(key);
+            if (bucket == null) {
+                bucket = buckets.size() < maxKeys || sweep(now)
+                        ? buckets.computeIfAbsent(key, k -> TokenBucket.of(limit.capacity(), limit.refillEvery()))
+                        : overflow;
+            }
+            return bucket.tryAcquire(now);
+        }
+
+        /**
+         * Drop full buckets if the last sweep is at least a second ago. Returns true if there is room afterwards.
+         */
+        private boolean sweep(long now) {
+            long next = nextSweep.get();
+            if (now - next >= 0 && nextSweep.compareAndSet(next, now + SWEEP_INTERVAL_NANOS)) {
+                buckets.values().removeIf(bucket -> bucket.isFull(now));
+            }
+            return buckets.size() < maxKeys;
+        }
+    }
+}
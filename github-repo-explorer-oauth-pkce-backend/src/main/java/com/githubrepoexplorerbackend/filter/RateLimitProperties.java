@@ -0,0 +1,45 @@
+package com.githubrepoexplorerbackend.filter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * `app.rate-limit` settings for RateLimitFilter. The route list does not fit @Value, so this one block is
+ * bound as a whole.
+ *
+ * @param enabled         false lets every request through (the filter stays registered)
+ * @param global          limit shared by all requests to limited routes on this instance (null = none)
+ * @param globalStripes   stripes of the global bucket (0 = one per available processor)
+ * @param maxTrackedKeys  per route and key type; past it, idle buckets are dropped and keys that still do
+ *                        not fit share one overflow bucket
+ * @param routes          first matching route wins; requests matching none are not limited
+ */
+@ConfigurationProperties("app.rate-limit")
+public record RateLimitProperties(
+        boolean enabled,
+        Limit global,
+        int globalStripes,
+        int maxTrackedKeys,
+        List<Route> routes
+) {
+
+    public RateLimitProperties {
+        routes = routes == null ? List.of() : List.copyOf(routes);
+    }
+
+    /**
+     * A token bucket: bursts of up to `capacity` requests, refilled by one request every `refillEvery`.
+     */
+    public record Limit(int capacity, Duration refillEvery) {}
+
+    /**
+     * @param name     metrics tag and part of the 429 message
+     * @param method   HTTP method to match (null = any)
+     * @param pattern  Spring path pattern, e.g. /api/repos/**
+     * @param perLogin limit per authenticated GitHub login (null = none)
+     * @param perIp    limit per client IP, i.e. the request's remote address (null = none)
+     */
+    public record Route(String name, String method, String pattern, Limit perLogin, Limit perIp) {}
+}
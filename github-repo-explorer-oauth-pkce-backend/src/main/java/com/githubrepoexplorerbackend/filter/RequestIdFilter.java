@@ -1,42 +1,72 @@
 package com.githubrepoexplorerbackend.filter;
 
+import io.micrometer.common.KeyValue;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
-import jakarta.servlet.http.HttpFilter;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.filter.ServerHttpObservationFilter;
 
 import java.io.IOException;
 import java.util.UUID;
 
 @Component
-public class RequestIdFilter extends HttpFilter {
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class RequestIdFilter extends OncePerRequestFilter {
 
     public static final String REQUEST_ID_HEADER = "X-Request-Id";
     public static final String MDC_REQUEST_ID = "requestId";
+    private static final String REQUEST_ID_ATTRIBUTE = RequestIdFilter.class.getName() + ".requestId";
 
     /**
      * Servlet filter that ensures every request has a request id. It
      * - reads X-Request-Id header if present or generates a new UUID
      * - places the id into SLF4J MDC under key `requestId` so loggers can include it
      * - sets X-Request-Id as a response header so clients can correlate responses
+     * - tags the request's root span with `request.id`, so a request id from logs or the client leads to its
+     *   trace (outbound GitHub calls carry the trace via the W3C traceparent header)
+     * <p>
+     * Also runs on ASYNC and ERROR dispatches, which may be on another thread than the original request (e.g. the
+     * ApiError written after an async handler failed): they reuse the id chosen on the first dispatch, kept as a
+     * request attribute. An ERROR dispatch nested in the request's own (e.g. sendError) runs on the same thread
+     * with the id still in the MDC, so OncePerRequestFilter passes it straight on.
      */
     @Override
-    protected void doFilter(HttpServletRequest req, HttpServletResponse res, FilterChain chain) throws IOException, ServletException {
-        String requestId = req.getHeader(REQUEST_ID_HEADER);
-        if (requestId == null || requestId.isBlank()) {
-            requestId = UUID.randomUUID().toString();
+    protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain) throws IOException, ServletException {
+        String requestId = (String) req.getAttribute(REQUEST_ID_ATTRIBUTE);
+        if (requestId == null) {
+            requestId = req.getHeader(REQUEST_ID_HEADER);
+            if (requestId == null || requestId.isBlank()) {
+                requestId = UUID.randomUUID().toString();
+            }
+            req.setAttribute(REQUEST_ID_ATTRIBUTE, requestId);
+            res.setHeader(REQUEST_ID_HEADER, requestId);
+
+            String id = requestId;
+            ServerHttpObservationFilter.findObservationContext(req)
+                    .ifPresent(context -> context.addHighCardinalityKeyValue(KeyValue.of("request.id", id)));
         }
 
         MDC.put(MDC_REQUEST_ID, requestId);
-        res.setHeader(REQUEST_ID_HEADER, requestId);
-
         try {
             chain.doFilter(req, res);
         } finally {
             MDC.remove(MDC_REQUEST_ID);
         }
     }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected boolean shouldNotFilterErrorDispatch() {
+        return false;
+    }
 }
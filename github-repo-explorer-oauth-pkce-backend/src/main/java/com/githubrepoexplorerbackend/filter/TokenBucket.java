@@ -0,0 +1,90 @@
+package com.githubrepoexplorerbackend.filter;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free token bucket: `capacity` tokens, one more every `refillEvery`.
+ * <p>
+ * The bucket is stored as the time at which it will be full again (the GCRA "theoretical arrival time"),
+ * so taking a token is a single compare-and-set and needs no refill timer:
+ * 1. start from max(full-at, now), i.e. a full bucket if it refilled in the meantime;
+ * 2. taking a token moves full-at one refill interval later;
+ * 3. if full-at would then be more than capacity intervals ahead, the bucket is empty: reject and report
+ *    how long until a token is available.
+ * <p>
+ * A bucket hit by every request thread (the global limit) is split into stripes. Each stripe has its own
+ * cache line and gets 1/stripes of the capacity and rate, and a thread always uses the same stripe.
+ * The total stays the same and threads do not contend on one CAS.
+ */
+public final class TokenBucket {
+
+    /** 16 longs = 128 bytes between stripes, so two stripes never share a cache line (or an adjacent-line prefetch). */
+    private static final int PADDING = 16;
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final int stripeMask;
+    private final AtomicLongArray fullAt;
+
+    private TokenBucket(int capacity, Duration refillEvery, int stripes) {
+        if (capacity < 1 || refillEvery.isNegative() || refillEvery.isZero()) {
+            throw new IllegalArgumentException("Token bucket needs capacity >= 1 and a positive refill interval");
+        }
+        this.intervalNanos = refillEvery.toNanos() * stripes;
+        this.burstNanos = intervalNanos * Math.max(1, capacity / stripes);
+        this.stripeMask = stripes - 1;
+        this.fullAt = new AtomicLongArray(stripes * PADDING);
+        long now = System.nanoTime();
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            fullAt.set(stripe * PADDING, now);
+        }
+    }
+
+    /**
+     * A bucket for one key (login, IP).
+     */
+    public static TokenBucket of(int capacity, Duration refillEvery) {
+        return new TokenBucket(capacity, refillEvery, 1);
+    }
+
+    /**
+     * A bucket shared by all request threads, split into `stripes` stripes (rounded up to a power of two and
+     * capped at the capacity; 0 = one per available processor).
+     */
+    public static TokenBucket striped(int capacity, Duration refillEvery, int stripes) {
+        int requested = stripes > 0 ? stripes : Runtime.getRuntime().availableProcessors();
+        int powerOfTwo = Integer.highestOneBit(Math.max(1, Math.min(requested, capacity)));
+        return new TokenBucket(capacity, refillEvery, powerOfTwo);
+    }
+
+    /**
+     * Take one token. Returns 0 on success, otherwise the nanoseconds until a token will be available.
+     */
+    public long tryAcquire(long nowNanos) {
+        int index = stripeMask == 0 ? 0 : (int) (Thread.currentThread().threadId() & stripeMask) * PADDING;
+        while (true) {
+            long current = fullAt.get(index);
+            long next = (current - nowNanos > 0 ? current : nowNanos) + intervalNanos;
+            long wait = next - nowNanos - burstNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (fullAt.compareAndSet(index, current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * True if the bucket has refilled completely, i.e. it is indistinguishable from a new one and can be dropped.
+     */
+    public boolean isFull(long nowNanos) {
+        for (int index = 0; index <= stripeMask * PADDING; index += PADDING) {
+            if (fullAt.get(index) - nowNanos > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,60 @@
+package com.githubrepoexplorerbackend.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Batched upserts of user tokens over plain JDBC.
+ * <p>
+ * UserToken ids use GenerationType.IDENTITY, so Hibernate cannot batch inserts and saveOrUpdate costs a
+ * select plus an insert/update per login. This repository writes a whole batch with a single prepared
+ * MERGE statement (one JDBC batch, one transaction), keyed on the unique github_login column.
+ * The statement is standard SQL MERGE, supported by H2 2.x (also in PostgreSQL mode) and PostgreSQL 15+.
+ */
+@Repository
+public class UserTokenBatchRepository {
+
+    private static final String MERGE_SQL = """
+            MERGE INTO user_tokens t
+            USING (VALUES (CAST(? AS VARCHAR(255)), CAST(? AS VARCHAR(4000)), CAST(? AS VARCHAR(255)),
+                           CAST(? AS VARCHAR(255)), CAST(? AS TIMESTAMP WITH TIME ZONE)))
+                AS s (github_login, access_token, token_type, scope, created_at)
+            ON t.github_login = s.github_login
+            WHEN MATCHED THEN UPDATE SET
+                access_token = s.access_token, token_type = s.token_type, scope = s.scope, created_at = s.created_at
+            WHEN NOT MATCHED THEN INSERT (github_login, access_token, token_type, scope, created_at)
+                VALUES (s.github_login, s.access_token, s.token_type, s.scope, s.created_at)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public UserTokenBatchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Insert or update every row in one batch. Logins must be unique within the batch.
+     */
+    @Transactional
+    public void upsertAll(List<TokenRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(MERGE_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setString(1, row.githubLogin());
+            ps.setString(2, row.accessToken());
+            ps.setString(3, row.tokenType());
+            ps.setString(4, row.scope());
+            ps.setObject(5, OffsetDateTime.ofInstant(row.createdAt(), ZoneOffset.UTC));
+        });
+    }
+
+    public record TokenRow(String githubLogin, String accessToken, String tokenType, String scope, Instant createdAt) {
+    }
+}
@@ -0,0 +1,182 @@
+package com.githubrepoexplorerbackend.security;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.DeferredSecurityContext;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.context.HttpRequestResponseHolder;
+import org.springframework.security.web.context.SecurityContextRepository;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Stateless SecurityContextRepository: the authenticated login travels in an HMAC-SHA256 signed cookie
+ * instead of the servlet session, so any node holding the signing key can verify it without server-side state.
+ * <p>
+ * Cookie value: {@code base64url(login) "." expiryEpochSeconds "." base64url(hmac(base64url(login) "." expiry))}.
+ * <p>
+ * - A missing, malformed, expired or wrongly signed cookie yields an empty context (request is anonymous).
+ * - Saving an authenticated context issues a fresh cookie valid for `ttl`; saving an empty one clears it.
+ * - Tokens cannot be revoked before they expire; logout only removes the cookie from the browser.
+ */
+public class SignedCookieSecurityContextRepository implements SecurityContextRepository {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final List<GrantedAuthority> AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final Mac macPrototype;
+    private final String cookieName;
+    private final Duration ttl;
+    private final boolean secureCookie;
+    private final Clock clock;
+
+    public SignedCookieSecurityContextRepository(byte[] signingKey, String cookieName, Duration ttl, boolean secureCookie, Clock clock) {
+        try {
+            this.macPrototype = Mac.getInstance(HMAC_ALGORITHM);
+            this.macPrototype.init(new SecretKeySpec(signingKey, HMAC_ALGORITHM));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot initialize " + HMAC_ALGORITHM, e);
+        }
+        this.cookieName = cookieName;
+        this.ttl = ttl;
+        this.secureCookie = secureCookie;
+        this.clock = clock;
+    }
+
+    @Override
+    @Deprecated
+    public SecurityContext loadContext(HttpRequestResponseHolder requestResponseHolder) {
+        return load(requestResponseHolder.getRequest());
+    }
+
+    @Override
+    public DeferredSecurityContext loadDeferredContext(HttpServletRequest request) {
+        return new DeferredSecurityContext() {
+            private SecurityContext context;
+
+            @Override
+            public SecurityContext get() {
+                if (context == null) {
+                    context = load(request);
+                }
+                return context;
+            }
+
+            @Override
+            public boolean isGenerated() {
+                return get().getAuthentication() == null;
+            }
+        };
+    }
+
+    @Override
+    public void saveContext(SecurityContext context, HttpServletRequest request, HttpServletResponse response) {
+        Authentication authentication = context.getAuthentication();
+        ResponseCookie cookie = authentication == null || !authentication.isAuthenticated()
+                ? cookie("", Duration.ZERO)
+                : cookie(issue(authentication.getName()), ttl);
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+
+    @Override
+    public boolean containsContext(HttpServletRequest request) {
+        return findCookie(request) != null;
+    }
+
+    /**
+     * Create a signed token for the login, expiring `ttl` from now.
+     */
+    public String issue(String githubLogin) {
+        String payload = ENCODER.encodeToString(githubLogin.getBytes(StandardCharsets.UTF_8))
+                + "." + clock.instant().plus(ttl).getEpochSecond();
+        return payload + "." + ENCODER.encodeToString(sign(payload));
+    }
+
+    /**
+     * Return the login carried by a valid, unexpired token, or null.
+     */
+    public String verify(String token) {
+        int signatureDot = token.lastIndexOf('.');
+        int expiryDot = signatureDot > 0 ? token.lastIndexOf('.', signatureDot - 1) : -1;
+        if (expiryDot <= 0) {
+            return null;
+        }
+
+        String payload = token.substring(0, signatureDot);
+        try {
+            byte[] signature = DECODER.decode(token.substring(signatureDot + 1));
+            if (!MessageDigest.isEqual(signature, sign(payload))) {
+                return null;
+            }
+            long expiresAt = Long.parseLong(token, expiryDot + 1, signatureDot, 10);
+            if (clock.instant().getEpochSecond() >= expiresAt) {
+                return null;
+            }
+            return new String(DECODER.decode(token.substring(0, expiryDot)), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            // bad base64 or expiry (NumberFormatException is an IllegalArgumentException)
+            return null;
+        }
+    }
+
+    private SecurityContext load(HttpServletRequest request) {
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        String token = findCookie(request);
+        String githubLogin = token == null ? null : verify(token);
+        if (githubLogin != null) {
+            context.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(githubLogin, null, AUTHORITIES));
+        }
+        return context;
+    }
+
+    private String findCookie(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie cookie : cookies) {
+            if (cookieName.equals(cookie.getName())) {
+                return cookie.getValue();
+            }
+        }
+        return null;
+    }
+
+    private byte[] sign(String payload) {
+        try {
+            // Mac is not thread-safe; a clone of the initialized prototype skips key setup per call
+            Mac mac = (Mac) macPrototype.clone();
+            return mac.doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(HMAC_ALGORITHM + " does not support cloning", e);
+        }
+    }
+
+    private ResponseCookie cookie(String value, Duration maxAge) {
+        return ResponseCookie.from(cookieName, value)
+                .path("/")
+                .httpOnly(true)
+                .secure(secureCookie)
+                .sameSite("Lax")
+                .maxAge(maxAge)
+                .build();
+    }
+}
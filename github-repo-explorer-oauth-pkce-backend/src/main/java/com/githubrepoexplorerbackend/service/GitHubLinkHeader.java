@@ -0,0 +1,59 @@
+package com.githubrepoexplorerbackend.service;
+
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Helper for GitHub's pagination Link header, e.g.
+ * {@code <https://api.github.com/user/repos?page=2>; rel="next", <https://api.github.com/user/repos?page=20>; rel="last"}.
+ */
+final class GitHubLinkHeader {
+
+    private GitHubLinkHeader() {
+    }
+
+    /**
+     * Parse a Link header into a map of rel -> url. Returns an empty map for a null/blank header.
+     */
+    static Map<String, String> parse(String header) {
+        Map<String, String> links = new HashMap<>();
+        if (header == null || header.isBlank()) {
+            return links;
+        }
+
+        for (String part : header.split(",")) {
+            String[] segments = part.split(";");
+            if (segments.length < 2) {
+                continue;
+            }
+            String url = segments[0].trim();
+            if (url.startsWith("<") && url.endsWith(">")) {
+                url = url.substring(1, url.length() - 1);
+            }
+            for (int i = 1; i < segments.length; i++) {
+                String param = segments[i].trim();
+                if (param.startsWith("rel=")) {
+                    links.put(param.substring(4).replace("\"", ""), url);
+                }
+            }
+        }
+        return links;
+    }
+
+    /**
+     * Extract the `page` query parameter from a link url, or -1 if absent/invalid.
+     */
+    static int pageOf(String url) {
+        if (url == null) {
+            return -1;
+        }
+        String page = UriComponentsBuilder.fromUriString(url).build().getQueryParams().getFirst("page");
+        try {
+            return page == null ? -1 : Integer.parseInt(page);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
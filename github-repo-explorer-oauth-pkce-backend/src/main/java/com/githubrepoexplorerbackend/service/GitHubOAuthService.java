@@ -1,8 +1,15 @@
 package com.githubrepoexplorerbackend.service;
 
+import com.githubrepoexplorerbackend.cache.ConditionalResponseCache;
+import com.githubrepoexplorerbackend.cache.ConditionalResponseCache.CachedResponse;
+import com.githubrepoexplorerbackend.cache.UserTokenCache;
+import com.githubrepoexplorerbackend.client.GitHubHttpClient;
 import com.githubrepoexplorerbackend.entity.UserToken;
+import com.githubrepoexplorerbackend.exception.GitHubRateLimitException;
 import com.githubrepoexplorerbackend.exception.OAuthExchangeException;
 import com.githubrepoexplorerbackend.repository.UserTokenRepository;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -10,11 +17,14 @@ import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
 import java.time.Instant;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 
 @Service
 public class GitHubOAuthService {
@@ -30,12 +40,31 @@ public class GitHubOAuthService {
     @Value("${github.oauth.token-url}")
     private String tokenUrl;
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    @Value("${github.api.base-url}")
+    private String apiBaseUrl;
 
-    private final UserTokenRepository tokenRepo;
+    private final RestTemplate restTemplate;
 
-    public GitHubOAuthService(UserTokenRepository tokenRepo) {
+    private final UserTokenRepository tokenRepo;
+    private final ConditionalResponseCache responseCache;
+    private final UserTokenCache tokenCache;
+    private final ObservationRegistry observationRegistry;
+    private final ExecutorService githubExecutor;
+
+    public GitHubOAuthService(
+            UserTokenRepository tokenRepo,
+            ConditionalResponseCache responseCache,
+            UserTokenCache tokenCache,
+            GitHubHttpClient gitHubHttpClient,
+            ObservationRegistry observationRegistry,
+            ExecutorService githubExecutor
+    ) {
         this.tokenRepo = tokenRepo;
+        this.responseCache = responseCache;
+        this.tokenCache = tokenCache;
+        this.observationRegistry = observationRegistry;
+        this.githubExecutor = githubExecutor;
+        this.restTemplate = gitHubHttpClient.restTemplate();
     }
 
     /**
@@ -82,48 +111,87 @@ public class GitHubOAuthService {
         }
     }
 
+    /**
+     * Non-blocking variant of exchangeCode: the call runs on the GitHub I/O executor and the future
+     * completes with the token response or exceptionally with OAuthExchangeException.
+     */
+    public CompletableFuture<Map<String, Object>> exchangeCodeAsync(String code, String codeVerifier, String redirectUri) {
+        return CompletableFuture.supplyAsync(() -> exchangeCode(code, codeVerifier, redirectUri), githubExecutor);
+    }
 
     /**
      * Helper: fetch the GitHub user's login using the provided access token.
      * <p>
      * Execution steps:
-     * 1. Make GET https://api.github.com/user with Bearer authorization.
-     * 2. Return the `login` property from the response body.
+     * 1. Make GET {github.api.base-url}/user with Bearer authorization, sending If-None-Match when a
+     *    previous response for the same token is cached.
+     * 2. On 304 return the cached login; otherwise return the `login` property from the response body.
      * <p>
      * Error modes:
+     * - Throws GitHubRateLimitException (-> 429) if GitHub rejects the call with a rate limit.
      * - Throws RuntimeException if the request fails or the response is malformed.
      */
     public String fetchGitHubLogin(String accessToken) {
+        String url = apiBaseUrl + "/user";
+        String cacheKey = ConditionalResponseCache.tokenKey(accessToken, url);
+        CachedResponse<String> cached = responseCache.lookup(cacheKey);
+
         var headers = new org.springframework.http.HttpHeaders();
         headers.setBearerAuth(accessToken);
         headers.set("Accept", "application/vnd.github+json");
+        if (cached != null) {
+            headers.setIfNoneMatch(cached.etag());
+        }
 
         var entity = new org.springframework.http.HttpEntity<>(headers);
         try {
             var response = restTemplate.exchange(
-                    "https://api.github.com/user",
+                    url,
                     org.springframework.http.HttpMethod.GET,
                     entity,
                     Map.class
             );
 
+            if (cached != null && response.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+                responseCache.notModified();
+                return cached.body();
+            }
+
             if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
                 log.error("Failed to fetch GitHub user: status={} body={}", response.getStatusCode(), response.getBody());
                 throw new RuntimeException("Failed to fetch GitHub user");
             }
-            return (String) response.getBody().get("login");
+            String login = (String) response.getBody().get("login");
+            responseCache.store(cacheKey, response.getHeaders().getETag(), login);
+            return login;
+        } catch (HttpStatusCodeException e) {
+            if (GitHubRateLimitTracker.isRateLimited(e)) {
+                log.warn("GitHub rate limit hit while fetching user: status={}", e.getStatusCode());
+                throw new GitHubRateLimitException("GitHub rate limit exceeded", GitHubRateLimitTracker.retryAfterSeconds(e), e);
+            }
+            log.error("Error fetching GitHub user", e);
+            throw new RuntimeException("Failed to fetch GitHub user", e);
         } catch (RestClientException e) {
             log.error("Error fetching GitHub user", e);
             throw new RuntimeException("Failed to fetch GitHub user", e);
         }
     }
 
+    /**
+     * Non-blocking variant of fetchGitHubLogin, run on the GitHub I/O executor.
+     */
+    public CompletableFuture<String> fetchGitHubLoginAsync(String accessToken) {
+        return CompletableFuture.supplyAsync(() -> fetchGitHubLogin(accessToken), githubExecutor);
+    }
+
     /**
      * Helper: persist or update the user's access token.
      * <p>
      * Execution:
      * - Look up UserToken by githubLogin; if found, update fields and save; otherwise create a new entity.
      * - Marked @Transactional to ensure DB operations are performed atomically.
+     * - The upsert is observed as its own span/timer (user.token.upsert).
+     * - Write the new token through to the token cache once the transaction commits.
      */
     @Transactional
     public void saveOrUpdate(
@@ -133,23 +201,28 @@ public class GitHubOAuthService {
             String scope
     ) {
         log.info("Saving/updating token for user={}", githubLogin);
-        tokenRepo.findByGithubLogin(githubLogin)
-                .map(existing -> {
-                    existing.setAccessToken(accessToken);
-                    existing.setTokenType(tokenType);
-                    existing.setScope(scope);
-                    existing.setCreatedAt(Instant.now());
-                    return tokenRepo.save(existing);
-                })
-                .orElseGet(() -> {
-                    UserToken token = new UserToken();
-                    token.setGithubLogin(githubLogin);
-                    token.setAccessToken(accessToken);
-                    token.setTokenType(tokenType);
-                    token.setScope(scope);
-                    token.setCreatedAt(Instant.now());
-                    return tokenRepo.save(token);
+        Observation.createNotStarted("user.token.upsert", observationRegistry)
+                .contextualName("UserTokenRepository.upsert")
+                .observe(() -> {
+                    tokenRepo.findByGithubLogin(githubLogin)
+                            .map(existing -> {
+                                existing.setAccessToken(accessToken);
+                                existing.setTokenType(tokenType);
+                                existing.setScope(scope);
+                                existing.setCreatedAt(Instant.now());
+                                return tokenRepo.save(existing);
+                            })
+                            .orElseGet(() -> {
+                                UserToken token = new UserToken();
+                                token.setGithubLogin(githubLogin);
+                                token.setAccessToken(accessToken);
+                                token.setTokenType(tokenType);
+                                token.setScope(scope);
+                                token.setCreatedAt(Instant.now());
+                                return tokenRepo.save(token);
+                            });
                 });
+        tokenCache.put(githubLogin, accessToken);
     }
 
 }
@@ -0,0 +1,237 @@
+package com.githubrepoexplorerbackend.service;
+
+import com.githubrepoexplorerbackend.cache.ExpiringLruCache;
+import com.githubrepoexplorerbackend.exception.GitHubRateLimitException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Tracks GitHub's per-token rate limit from response headers and schedules calls around it.
+ * <p>
+ * - update(...) records X-RateLimit-Remaining / X-RateLimit-Reset from every GitHub response.
+ * - isLow(...) tells callers to prefer cached data once the remaining quota drops below the low watermark.
+ * - execute(...) retries secondary rate limits (403/429 with Retry-After or an exhausted quota) with jittered
+ *   exponential backoff, and gives up with GitHubRateLimitException (-> 429 + Retry-After) when the wait
+ *   would be longer than the configured maximum backoff.
+ */
+@Component
+public class GitHubRateLimitTracker {
+
+    private static final Logger log = LoggerFactory.getLogger(GitHubRateLimitTracker.class);
+
+    private static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+    private static final String RESET_HEADER = "X-RateLimit-Reset";
+
+    private final ExpiringLruCache<String, RateLimitState> states;
+
+    @Value("${github.rate-limit.low-watermark}")
+    private int lowWatermark;
+
+    @Value("${github.rate-limit.max-retries}")
+    private int maxRetries;
+
+    @Value("${github.rate-limit.base-backoff}")
+    private Duration baseBackoff;
+
+    @Value("${github.rate-limit.max-backoff}")
+    private Duration maxBackoff;
+
+    public GitHubRateLimitTracker(@Value("${github.rate-limit.max-tracked-tokens}") int maxTrackedTokens) {
+        // GitHub's primary rate-limit window is one hour; older state is meaningless.
+        this.states = new ExpiringLruCache<>(maxTrackedTokens, Duration.ofHours(1));
+    }
+
+    /**
+     * Record the rate-limit headers of a GitHub response for the given key (the token owner's login).
+     */
+    public void update(String key, HttpHeaders headers) {
+        if (headers == null) {
+            return;
+        }
+        long remaining = parseLong(headers.getFirst(REMAINING_HEADER));
+        long reset = parseLong(headers.getFirst(RESET_HEADER));
+        if (remaining >= 0 && reset > 0) {
+            states.put(key, new RateLimitState(remaining, reset));
+        }
+    }
+
+    /**
+     * True if the last known remaining quota for the key is below the low watermark and the window has not reset.
+     */
+    public boolean isLow(String key) {
+        RateLimitState state = states.get(key);
+        return state != null && state.remaining() < lowWatermark && !state.isReset();
+    }
+
+    /**
+     * True if `calls` more requests would keep the key at or above the low watermark (or its quota is unknown
+     * or has reset). Used to keep background work from eating into the budget foreground requests need.
+     */
+    public boolean hasBudget(String key, long calls) {
+        RateLimitState state = states.get(key);
+        return state == null || state.isReset() || state.remaining() - calls >= lowWatermark;
+    }
+
+    /**
+     * True if the last known remaining quota for the key is zero and the window has not reset.
+     */
+    public boolean isExhausted(String key) {
+        RateLimitState state = states.get(key);
+        return state != null && state.remaining() <= 0 && !state.isReset();
+    }
+
+    /**
+     * Seconds until the key's rate-limit window resets (at least 1).
+     */
+    public long secondsUntilReset(String key) {
+        RateLimitState state = states.get(key);
+        if (state == null) {
+            return 1;
+        }
+        return Math.max(1, state.resetEpochSecond() - Instant.now().getEpochSecond());
+    }
+
+    /**
+     * Last known remaining quota for the key, or -1 if unknown.
+     */
+    public long remaining(String key) {
+        RateLimitState state = states.get(key);
+        return state == null ? -1 : state.remaining();
+    }
+
+    /**
+     * Lowest remaining quota across all tracked tokens whose window has not reset, or -1 if none is tracked.
+     */
+    public long minRemaining() {
+        return states.values().stream()
+                .filter(state -> !state.isReset())
+                .mapToLong(RateLimitState::remaining)
+                .min()
+                .orElse(-1);
+    }
+
+    /**
+     * Number of tracked tokens currently below the low watermark.
+     */
+    public long lowTokenCount() {
+        return states.values().stream()
+                .filter(state -> !state.isReset() && state.remaining() < lowWatermark)
+                .count();
+    }
+
+    /**
+     * Run a GitHub call, retrying rate-limit rejections with jittered exponential backoff.
+     * <p>
+     * Execution steps:
+     * 1. If the quota for the key is known to be exhausted, fail fast with GitHubRateLimitException.
+     * 2. Run the call; on 403/429 that is a rate-limit rejection, compute the server-requested wait
+     *    (Retry-After, or X-RateLimit-Reset when the quota is exhausted).
+     * 3. If the wait fits within max-backoff and retries remain, sleep for max(wait, jittered backoff) and retry.
+     * 4. Otherwise throw GitHubRateLimitException carrying the wait as Retry-After.
+     * Non rate-limit errors are rethrown unchanged.
+     */
+    public <T> T execute(String key, Supplier<T> call) {
+        if (isExhausted(key)) {
+            throw new GitHubRateLimitException("GitHub rate limit exhausted", secondsUntilReset(key));
+        }
+
+        for (int attempt = 0; ; attempt++) {
+            try {
+                return call.get();
+            } catch (HttpStatusCodeException e) {
+                if (!isRateLimited(e)) {
+                    throw e;
+                }
+                update(key, e.getResponseHeaders());
+                long waitSeconds = retryAfterSeconds(e);
+                long backoffMillis = jitteredBackoffMillis(attempt);
+                long sleepMillis = Math.max(waitSeconds * 1000, backoffMillis);
+
+                if (attempt >= maxRetries || sleepMillis > maxBackoff.toMillis()) {
+                    log.warn("GitHub rate limit hit for key={} status={} retryAfter={}s, giving up", key, e.getStatusCode(), waitSeconds);
+                    throw new GitHubRateLimitException("GitHub rate limit exceeded", Math.max(1, waitSeconds), e);
+                }
+
+                log.info("GitHub rate limit hit for key={} status={}, retrying in {}ms (attempt {})", key, e.getStatusCode(), sleepMillis, attempt + 1);
+                sleep(sleepMillis);
+            }
+        }
+    }
+
+    /**
+     * GitHub signals primary limits with 403/429 + X-RateLimit-Remaining: 0 and secondary limits with 403/429 + Retry-After.
+     */
+    static boolean isRateLimited(HttpStatusCodeException e) {
+        int status = e.getStatusCode().value();
+        if (status != HttpStatus.TOO_MANY_REQUESTS.value() && status != HttpStatus.FORBIDDEN.value()) {
+            return false;
+        }
+        if (status == HttpStatus.TOO_MANY_REQUESTS.value()) {
+            return true;
+        }
+        HttpHeaders headers = e.getResponseHeaders();
+        return headers != null
+                && (headers.containsKey(HttpHeaders.RETRY_AFTER) || "0".equals(headers.getFirst(REMAINING_HEADER)));
+    }
+
+    /**
+     * Server-requested wait for a rate-limit rejection: Retry-After if present, else time until X-RateLimit-Reset.
+     */
+    static long retryAfterSeconds(HttpStatusCodeException e) {
+        HttpHeaders headers = e.getResponseHeaders();
+        if (headers == null) {
+            return 60;
+        }
+        long retryAfter = parseLong(headers.getFirst(HttpHeaders.RETRY_AFTER));
+        if (retryAfter >= 0) {
+            return retryAfter;
+        }
+        long reset = parseLong(headers.getFirst(RESET_HEADER));
+        if (reset > 0) {
+            return Math.max(1, reset - Instant.now().getEpochSecond());
+        }
+        return 60;
+    }
+
+    private long jitteredBackoffMillis(int attempt) {
+        long ceiling = Math.min(maxBackoff.toMillis(), baseBackoff.toMillis() << Math.min(attempt, 16));
+        // "equal jitter": spread concurrent retries over [ceiling/2, ceiling] to avoid a thundering herd
+        return ceiling / 2 + ThreadLocalRandom.current().nextLong(ceiling / 2 + 1);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new GitHubRateLimitException("Interrupted while backing off from GitHub rate limit", 1, ie);
+        }
+    }
+
+    private static long parseLong(String value) {
+        if (value == null || value.isBlank()) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private record RateLimitState(long remaining, long resetEpochSecond) {
+        boolean isReset() {
+            return Instant.now().getEpochSecond() >= resetEpochSecond;
+        }
+    }
+}
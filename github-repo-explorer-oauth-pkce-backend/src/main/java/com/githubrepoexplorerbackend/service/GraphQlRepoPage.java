@@ -0,0 +1,26 @@
+package com.githubrepoexplorerbackend.service;
+
+import com.githubrepoexplorerbackend.dto.RepoSummary;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One page of the GraphQL `repositories` connection: the repos, the cursor to continue after, and any
+ * GraphQL errors (GitHub reports them with HTTP 200; rateLimited is set for type RATE_LIMITED).
+ */
+public record GraphQlRepoPage(List<RepoSummary> repos, String endCursor, boolean hasNextPage, List<String> errors,
+                       boolean rateLimited) {
+
+    static final class Builder {
+        final List<RepoSummary> repos = new ArrayList<>();
+        final List<String> errors = new ArrayList<>();
+        String endCursor;
+        boolean hasNextPage;
+        boolean rateLimited;
+
+        GraphQlRepoPage build() {
+            return new GraphQlRepoPage(repos, endCursor, hasNextPage && endCursor != null, List.copyOf(errors), rateLimited);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.githubrepoexplorerbackend.service;
+
+import com.githubrepoexplorerbackend.cache.RepoListCache;
+import com.githubrepoexplorerbackend.cache.RepoListCache.CachedRepoList;
+import com.githubrepoexplorerbackend.exception.TokenNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps the cached repo lists of recently active users fresh in the background, so the foreground
+ * /api/repos path is a memory read (see ReposService.getMyRepos and github.repo-cache.fresh-for).
+ * <p>
+ * Every `github.repo-refresh.interval`:
+ * 1. Walk the logins active within `active-window`, most recently active first.
+ * 2. Skip lists younger than `refresh-after` and logins already being refreshed.
+ * 3. Skip logins whose GitHub quota would drop below the rate-limit low watermark after one conditional
+ *    request per cached page (unchanged pages answer 304 from GitHub, which does not count against the quota).
+ * 4. Refresh up to `max-per-tick` lists on the background executor (ReposService.refreshMyReposAsync); nothing
+ *    here waits for a refresh to finish.
+ * <p>
+ * refreshNow is called right after login so the user's first page load finds the list cached.
+ */
+@Component
+public class RepoRefreshScheduler implements SchedulingConfigurer {
+
+    private static final Logger log = LoggerFactory.getLogger(RepoRefreshScheduler.class);
+
+    private final ReposService reposService;
+    private final UserActivityTracker activityTracker;
+    private final RepoListCache repoListCache;
+    private final GitHubRateLimitTracker rateLimitTracker;
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+    private final LongAdder refreshed = new LongAdder();
+    private final LongAdder skippedForBudget = new LongAdder();
+
+    @Value("${github.repo-refresh.enabled}")
+    private boolean enabled;
+
+    @Value("${github.repo-refresh.interval}")
+    private Duration interval;
+
+    @Value("${github.repo-refresh.refresh-after}")
+    private Duration refreshAfter;
+
+    @Value("${github.repo-refresh.max-per-tick}")
+    private int maxPerTick;
+
+    @Value("${github.api.per-page}")
+    private int perPage;
+
+    public RepoRefreshScheduler(
+            ReposService reposService,
+            UserActivityTracker activityTracker,
+            RepoListCache repoListCache,
+            GitHubRateLimitTracker rateLimitTracker
+    ) {
+        this.reposService = reposService;
+        this.activityTracker = activityTracker;
+        this.repoListCache = repoListCache;
+        this.rateLimitTracker = rateLimitTracker;
+    }
+
+    /**
+     * Mark the login active and refresh its list now (e.g. right after login). A /api/repos call made
+     * while this runs joins the same fetch instead of starting another.
+     */
+    public void refreshNow(String githubLogin) {
+        activityTracker.touch(githubLogin);
+        submit(githubLogin);
+    }
+
+    /**
+     * Registers refreshActive with a fixed delay of github.repo-refresh.interval (when enabled).
+     */
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        if (enabled) {
+            registrar.addFixedDelayTask(new FixedDelayTask(this::refreshActive, interval, interval));
+        }
+    }
+
+    /**
+     * One refresh pass over the recently active logins (see class comment).
+     */
+    public void refreshActive() {
+        if (reposService.isCircuitOpen()) {
+            log.debug("GitHub circuit open, skipping background refresh pass");
+            return;
+        }
+        Instant staleBefore = Instant.now().minus(refreshAfter);
+        int submitted = 0;
+        for (String githubLogin : activityTracker.recentlyActive()) {
+            if (submitted >= maxPerTick) {
+                break;
+            }
+            CachedRepoList cached = repoListCache.get(githubLogin);
+            if (cached != null && cached.fetchedAt().isAfter(staleBefore)) {
+                continue;
+            }
+            if (!rateLimitTracker.hasBudget(githubLogin, estimatedPages(cached))) {
+                skippedForBudget.increment();
+                continue;
+            }
+            if (submit(githubLogin)) {
+                submitted++;
+            }
+        }
+        if (submitted > 0) {
+            log.debug("Refreshing repo lists for {} active user(s)", submitted);
+        }
+    }
+
+    /**
+     * Repo lists refreshed in the background.
+     */
+    public long refreshedCount() {
+        return refreshed.sum();
+    }
+
+    /**
+     * Background refreshes skipped to preserve a user's GitHub quota.
+     */
+    public long skippedForBudgetCount() {
+        return skippedForBudget.sum();
+    }
+
+    private boolean submit(String githubLogin) {
+        if (!inFlight.add(githubLogin)) {
+            return false;
+        }
+        reposService.refreshMyReposAsync(githubLogin)
+                .whenComplete((ignored, e) -> {
+                    inFlight.remove(githubLogin);
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    if (cause == null) {
+                        refreshed.increment();
+                    } else if (cause instanceof TokenNotFoundException) {
+                        activityTracker.forget(githubLogin);
+                    } else {
+                        log.warn("Background repo refresh failed for user={}: {}", githubLogin, cause.getMessage());
+                    }
+                });
+        return true;
+    }
+
+    private long estimatedPages(CachedRepoList cached) {
+        return cached == null ? 1 : Math.max(1, (cached.repos().size() + perPage - 1) / perPage);
+    }
+}
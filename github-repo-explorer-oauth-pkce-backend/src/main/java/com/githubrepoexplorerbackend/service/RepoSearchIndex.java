@@ -0,0 +1,148 @@
+package com.githubrepoexplorerbackend.service;
+
+import com.githubrepoexplorerbackend.dto.RepoQuery;
+import com.githubrepoexplorerbackend.dto.RepoSearchResult;
+import com.githubrepoexplorerbackend.dto.RepoSummary;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Immutable in-memory index over one user's repository list.
+ * <p>
+ * Built once per cached list:
+ * - a sorted token map (word -> repo positions) over name, full_name and description, so a query term is
+ *   answered by a prefix range scan instead of a substring scan over every repo;
+ * - per-language buckets;
+ * - precomputed positions ordered by stars and by name;
+ * - its own copy of the stars column.
+ * A query intersects the candidate sets as BitSets and walks the requested order to cut out one page. Only the
+ * repos on that page are read from the list, since a cached CompactRepoList builds a new record on every get.
+ */
+final class RepoSearchIndex {
+
+    private final List<RepoSummary> repos;
+    private final NavigableMap<String, BitSet> tokens = new TreeMap<>();
+    private final Map<String, BitSet> languages = new HashMap<>();
+    private final int[] stars;
+    private final int[] byStars;
+    private final int[] byName;
+
+    RepoSearchIndex(List<RepoSummary> repos) {
+        this.repos = repos;
+        this.stars = new int[repos.size()];
+        String[] names = new String[repos.size()];
+
+        for (int i = 0; i < repos.size(); i++) {
+            RepoSummary repo = repos.get(i);
+            stars[i] = repo.stars();
+            names[i] = nullToEmpty(repo.name());
+            indexText(repo.fullName(), i);
+            indexText(repo.name(), i);
+            indexText(repo.description(), i);
+            if (repo.language() != null) {
+                languages.computeIfAbsent(repo.language().toLowerCase(Locale.ROOT), k -> new BitSet()).set(i);
+            }
+        }
+
+        this.byStars = order(Comparator.comparingInt((Integer i) -> stars[i]).reversed());
+        this.byName = order(Comparator.comparing((Integer i) -> names[i], String.CASE_INSENSITIVE_ORDER));
+    }
+
+    /**
+     * The list this index was built from (identity is used to detect a stale index).
+     */
+    List<RepoSummary> source() {
+        return repos;
+    }
+
+    RepoSearchResult search(RepoQuery query) {
+        BitSet candidates = new BitSet(repos.size());
+        candidates.set(0, repos.size());
+
+        if (query.language() != null && !query.language().isBlank()) {
+            BitSet bucket = languages.get(query.language().trim().toLowerCase(Locale.ROOT));
+            if (bucket == null) {
+                return new RepoSearchResult(List.of(), 0, query.pageOrDefault(), query.sizeOrDefault());
+            }
+            candidates.and(bucket);
+        }
+
+        if (query.q() != null) {
+            for (String term : tokenize(query.q())) {
+                candidates.and(prefixMatches(term));
+            }
+        }
+
+        int minStars = query.minStarsOrDefault();
+        int from = query.pageOrDefault() * query.sizeOrDefault();
+        int to = from + query.sizeOrDefault();
+        List<RepoSummary> items = new ArrayList<>(query.sizeOrDefault());
+        int total = 0;
+
+        int[] order = "stars".equals(query.sort()) ? byStars : "name".equals(query.sort()) ? byName : null;
+        for (int n = 0; n < repos.size(); n++) {
+            int i = order == null ? n : order[n];
+            if (!candidates.get(i) || stars[i] < minStars) {
+                continue;
+            }
+            if (total >= from && total < to) {
+                items.add(repos.get(i));
+            }
+            total++;
+        }
+
+        return new RepoSearchResult(items, total, query.pageOrDefault(), query.sizeOrDefault());
+    }
+
+    private BitSet prefixMatches(String prefix) {
+        BitSet matches = new BitSet(repos.size());
+        for (BitSet postings : tokens.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+            matches.or(postings);
+        }
+        return matches;
+    }
+
+    private void indexText(String text, int position) {
+        for (String token : tokenize(text)) {
+            tokens.computeIfAbsent(token, k -> new BitSet()).set(position);
+        }
+    }
+
+    private int[] order(Comparator<Integer> comparator) {
+        Integer[] positions = new Integer[repos.size()];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = i;
+        }
+        Arrays.sort(positions, comparator);
+        return Arrays.stream(positions).mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Lower-case words split on anything that is not a letter or digit ("my-repo_v2" -> my, repo, v2).
+     */
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> words = new ArrayList<>();
+        for (String word : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{Nd}]+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
@@ -0,0 +1,46 @@
+package com.githubrepoexplorerbackend.service;
+
+import com.githubrepoexplorerbackend.cache.ExpiringLruCache;
+import com.githubrepoexplorerbackend.dto.RepoQuery;
+import com.githubrepoexplorerbackend.dto.RepoSearchResult;
+import com.githubrepoexplorerbackend.dto.RepoSummary;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+
+@Service
+public class RepoSearchService {
+
+    private final ReposService reposService;
+    private final ExpiringLruCache<String, RepoSearchIndex> indexes;
+
+    public RepoSearchService(
+            ReposService reposService,
+            @Value("${github.repo-cache.max-entries}") int maxEntries,
+            @Value("${github.repo-cache.ttl}") Duration ttl
+    ) {
+        this.reposService = reposService;
+        this.indexes = new ExpiringLruCache<>(maxEntries, ttl);
+    }
+
+    /**
+     * Search the user's repositories.
+     * <p>
+     * Execution steps:
+     * 1. Get the repo list through ReposService.getMyRepos (cached list while fresh, else fetched).
+     * 2. Reuse the user's RepoSearchIndex if it was built over that exact list, else build and cache a new one.
+     * 3. Answer the query from the index and return a single page.
+     */
+    public RepoSearchResult search(String githubLogin, RepoQuery query) {
+        List<RepoSummary> repos = reposService.getMyRepos(githubLogin);
+
+        RepoSearchIndex index = indexes.get(githubLogin);
+        if (index == null || index.source() != repos) {
+            index = new RepoSearchIndex(repos);
+            indexes.put(githubLogin, index);
+        }
+        return index.search(query);
+    }
+}
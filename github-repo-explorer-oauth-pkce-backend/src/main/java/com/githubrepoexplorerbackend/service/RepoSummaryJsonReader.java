@@ -0,0 +1,208 @@
+package com.githubrepoexplorerbackend.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.githubrepoexplorerbackend.dto.RepoSummary;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming reader for the GitHub /user/repos payload.
+ * <p>
+ * A GitHub repository object is ~6 KB of JSON of which RepoSummary keeps six fields. Instead of
+ * binding the whole document, this reader walks the token stream with Jackson's JsonParser, copies
+ * `name`, `full_name`, `html_url`, `description`, `stargazers_count` and `language`, and skips every
+ * other value (including nested objects such as owner, permissions and license) without materializing it.
+ * <p>
+ * readGraphQlPage reads the response of the GraphQL repository query used in `github.api.fetch-mode: graphql`
+ * into the same RepoSummary objects.
+ */
+@Component
+public class RepoSummaryJsonReader {
+
+    private final JsonFactory jsonFactory;
+
+    public RepoSummaryJsonReader(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /**
+     * Read a JSON array of repository objects. An empty stream yields an empty list.
+     *
+     * @throws IOException if the stream cannot be read or is not a JSON array
+     */
+    public List<RepoSummary> readArray(InputStream in) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(in)) {
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+                return List.of();
+            }
+            if (token != JsonToken.START_ARRAY) {
+                throw new IOException("Expected JSON array of repositories but got " + token);
+            }
+
+            List<RepoSummary> repos = new ArrayList<>();
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == JsonToken.START_OBJECT) {
+                    repos.add(readRepo(parser));
+                } else if (token == null) {
+                    throw new IOException("Unexpected end of repository array");
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return repos;
+        }
+    }
+
+    private RepoSummary readRepo(JsonParser parser) throws IOException {
+        String name = null;
+        String fullName = null;
+        String htmlUrl = null;
+        String description = null;
+        String language = null;
+        int stars = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "name" -> name = textOrNull(parser, value);
+                case "full_name" -> fullName = textOrNull(parser, value);
+                case "html_url" -> htmlUrl = textOrNull(parser, value);
+                case "description" -> description = textOrNull(parser, value);
+                case "language" -> language = textOrNull(parser, value);
+                case "stargazers_count" -> stars = value == JsonToken.VALUE_NUMBER_INT ? parser.getIntValue() : 0;
+                // scalars are already consumed; objects/arrays are skipped without being materialized
+                default -> parser.skipChildren();
+            }
+        }
+        return new RepoSummary(name, fullName, htmlUrl, description, stars, language);
+    }
+
+    /**
+     * Read one page of a GraphQL `repositories` connection response.
+     * <p>
+     * Walks the document looking for the connection's `nodes` and `pageInfo` and the top-level `errors`; the
+     * enclosing `data`/`viewer`/`repositories` objects are descended into, everything else is skipped.
+     * Nodes map to RepoSummary as nameWithOwner -> full_name, url -> html_url, stargazerCount -> stargazers_count
+     * and primaryLanguage.name -> language.
+     *
+     * @throws IOException if the stream cannot be read or is not a JSON object
+     */
+    public GraphQlRepoPage readGraphQlPage(InputStream in) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Expected GraphQL response object but got " + parser.currentToken());
+            }
+            GraphQlRepoPage.Builder page = new GraphQlRepoPage.Builder();
+            readGraphQlObject(parser, page);
+            return page.build();
+        }
+    }
+
+    private void readGraphQlObject(JsonParser parser, GraphQlRepoPage.Builder page) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (field.equals("nodes") && value == JsonToken.START_ARRAY) {
+                while ((value = parser.nextToken()) != JsonToken.END_ARRAY) {
+                    if (value == JsonToken.START_OBJECT) {
+                        page.repos.add(readGraphQlRepo(parser));
+                    } else if (value == null) {
+                        throw new IOException("Unexpected end of GraphQL nodes array");
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else if (field.equals("pageInfo") && value == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String name = parser.currentName();
+                    JsonToken pageInfoValue = parser.nextToken();
+                    switch (name) {
+                        case "hasNextPage" -> page.hasNextPage = pageInfoValue == JsonToken.VALUE_TRUE;
+                        case "endCursor" -> page.endCursor = textOrNull(parser, pageInfoValue);
+                        default -> parser.skipChildren();
+                    }
+                }
+            } else if (field.equals("errors") && value == JsonToken.START_ARRAY) {
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    readGraphQlError(parser, page);
+                }
+            } else if (value == JsonToken.START_OBJECT) {
+                readGraphQlObject(parser, page);
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private RepoSummary readGraphQlRepo(JsonParser parser) throws IOException {
+        String name = null;
+        String fullName = null;
+        String htmlUrl = null;
+        String description = null;
+        String language = null;
+        int stars = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "name" -> name = textOrNull(parser, value);
+                case "nameWithOwner" -> fullName = textOrNull(parser, value);
+                case "url" -> htmlUrl = textOrNull(parser, value);
+                case "description" -> description = textOrNull(parser, value);
+                case "stargazerCount" -> stars = value == JsonToken.VALUE_NUMBER_INT ? parser.getIntValue() : 0;
+                case "primaryLanguage" -> language = value == JsonToken.START_OBJECT ? readNameField(parser) : null;
+                default -> parser.skipChildren();
+            }
+        }
+        return new RepoSummary(name, fullName, htmlUrl, description, stars, language);
+    }
+
+    private void readGraphQlError(JsonParser parser, GraphQlRepoPage.Builder page) throws IOException {
+        String type = null;
+        String message = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "type" -> type = textOrNull(parser, value);
+                case "message" -> message = textOrNull(parser, value);
+                default -> parser.skipChildren();
+            }
+        }
+        page.rateLimited |= "RATE_LIMITED".equals(type);
+        page.errors.add(type == null ? message : type + ": " + message);
+    }
+
+    /**
+     * Read `{"name": ...}` (e.g. primaryLanguage) and return the name.
+     */
+    private static String readNameField(JsonParser parser) throws IOException {
+        String name = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (field.equals("name")) {
+                name = textOrNull(parser, value);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return name;
+    }
+
+    private static String textOrNull(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_STRING) {
+            return parser.getText();
+        }
+        parser.skipChildren();
+        return null;
+    }
+}
@@ -1,63 +1,576 @@
 package com.githubrepoexplorerbackend.service;
 
-import com.githubrepoexplorerbackend.contoller.ReposController;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.githubrepoexplorerbackend.cache.CompactRepoList;
+import com.githubrepoexplorerbackend.cache.ConditionalResponseCache;
+import com.githubrepoexplorerbackend.client.CircuitBreaker;
+import com.githubrepoexplorerbackend.client.GitHubHttpClient;
+import com.githubrepoexplorerbackend.cache.ConditionalResponseCache.CachedResponse;
+import com.githubrepoexplorerbackend.cache.RepoListCache;
+import com.githubrepoexplorerbackend.cache.RepoListCache.CachedRepoList;
+import com.githubrepoexplorerbackend.cache.SingleFlight;
+import com.githubrepoexplorerbackend.cache.UserTokenCache;
 import com.githubrepoexplorerbackend.dto.RepoSummary;
-import com.githubrepoexplorerbackend.entity.UserToken;
+import com.githubrepoexplorerbackend.exception.GitHubRateLimitException;
 import com.githubrepoexplorerbackend.exception.TokenNotFoundException;
-import com.githubrepoexplorerbackend.repository.UserTokenRepository;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpEntity;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 @Service
 public class ReposService {
     private static final Logger log = LoggerFactory.getLogger(ReposService.class);
-    private final UserTokenRepository tokenRepo;
 
-    public ReposService(UserTokenRepository tokenRepo) {
-        this.tokenRepo = tokenRepo;
-    }
+    // Passed to RestTemplate as a template so client metrics are tagged per endpoint, not per page url.
+    private static final String REPOS_URI_TEMPLATE = "/user/repos?per_page={perPage}&page={page}";
+
+    // The same repositories as REST /user/repos (default affiliations), selecting only the RepoSummary fields.
+    private static final String REPOS_GRAPHQL_QUERY = """
+            query($first: Int!, $after: String) {
+              viewer {
+                repositories(first: $first, after: $after, ownerAffiliations: [OWNER, COLLABORATOR, ORGANIZATION_MEMBER]) {
+                  nodes { name nameWithOwner url description stargazerCount primaryLanguage { name } }
+                  pageInfo { hasNextPage endCursor }
+                }
+              }
+            }""";
+    private static final int GRAPHQL_MAX_PAGE_SIZE = 100;
+
+    private final UserTokenCache tokenCache;
+    private final ExecutorService githubExecutor;
+    private final ExecutorService backgroundExecutor;
+    private final CircuitBreaker circuitBreaker;
+    private final ConditionalResponseCache responseCache;
+    private final RepoSummaryJsonReader repoReader;
+    private final RestTemplate restTemplate;
+    private final RepoListCache repoListCache;
+    private final GitHubRateLimitTracker rateLimitTracker;
+    private final ObservationRegistry observationRegistry;
+    private final UserActivityTracker activityTracker;
+    private final ObjectMapper objectMapper;
+    private final SingleFlight<String, List<RepoSummary>> inFlightFetches = new SingleFlight<>();
+
+    @Value("${github.api.base-url}")
+    private String apiBaseUrl;
+
+    @Value("${github.api.per-page}")
+    private int perPage;
+
+    @Value("${github.api.max-parallel-pages}")
+    private int maxParallelPages;
+
+    @Value("${github.repo-cache.fresh-for}")
+    private Duration freshFor;
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    @Value("${github.resilience.serve-stale-after}")
+    private Duration serveStaleAfter;
+
+    @Value("${github.api.fetch-mode}")
+    private FetchMode fetchMode;
+
+    @Value("${github.api.graphql-url}")
+    private String graphqlUrl;
+
+    public ReposService(
+            UserTokenCache tokenCache,
+            ExecutorService githubExecutor,
+            ExecutorService backgroundExecutor,
+            ConditionalResponseCache responseCache,
+            RepoSummaryJsonReader repoReader,
+            GitHubHttpClient gitHubHttpClient,
+            RepoListCache repoListCache,
+            GitHubRateLimitTracker rateLimitTracker,
+            ObservationRegistry observationRegistry,
+            UserActivityTracker activityTracker,
+            ObjectMapper objectMapper
+    ) {
+        this.tokenCache = tokenCache;
+        this.githubExecutor = githubExecutor;
+        this.backgroundExecutor = backgroundExecutor;
+        this.circuitBreaker = gitHubHttpClient.resilience().reposCircuitBreaker();
+        this.responseCache = responseCache;
+        this.repoReader = repoReader;
+        this.restTemplate = gitHubHttpClient.restTemplate();
+        this.repoListCache = repoListCache;
+        this.rateLimitTracker = rateLimitTracker;
+        this.observationRegistry = observationRegistry;
+        this.activityTracker = activityTracker;
+        this.objectMapper = objectMapper;
+    }
 
     /**
      * Fetch repositories for a given GitHub login.
      *
      * Steps:
-     * 1. Query the database for the access token associated with githubLogin.
-     * 2. If not found, throw NotFoundException -> handled as 404.
-     * 3. Call GitHub API /user/repos using the stored access token and return the parsed list.
+     * 1. Record the login as active (RepoRefreshScheduler keeps active users' lists fresh in the background).
+     * 2. If the cached list was fetched within `github.repo-cache.fresh-for`, return it (memory read).
+     * 3. If an older list is cached, revalidate it: see refreshOrServeStale.
+     * 4. With nothing cached, refresh from GitHub on the calling thread, see refreshMyRepos.
      */
     public List<RepoSummary> getMyRepos(String githubLogin) {
+        return getMyReposEncoded(githubLogin).repos();
+    }
+
+    /**
+     * Same as getMyRepos, but returns the cache entry with the list's precomputed response body
+     * (EncodedRepoList). A list that was fetched but is no longer cached is encoded on the spot.
+     * The entry may be stale (see isStale).
+     */
+    public CachedRepoList getMyReposEncoded(String githubLogin) {
+        activityTracker.touch(githubLogin);
+        CachedRepoList cached = repoListCache.get(githubLogin);
+        if (cached != null && isFresh(cached)) {
+            return cached;
+        }
+        if (cached != null) {
+            return refreshOrServeStale(githubLogin, cached);
+        }
+
+        List<RepoSummary> repos = refreshMyRepos(githubLogin);
+        // normally the entry the fetch (or rate-limit fallback) just produced, or a newer one from a concurrent refresh
+        cached = repoListCache.get(githubLogin);
+        return cached != null ? cached : repoListCache.encode(repos);
+    }
+
+    /**
+     * True if the list was fetched longer than `github.repo-cache.fresh-for` ago, i.e. it was served as a
+     * fallback while GitHub was unavailable, slow or rate limited.
+     */
+    public boolean isStale(CachedRepoList list) {
+        return !isFresh(list);
+    }
+
+    /**
+     * Stale-while-revalidate for a cached list that is no longer fresh.
+     * <p>
+     * Execution steps:
+     * 1. If the repos circuit breaker is open, return the stale list immediately without calling GitHub. Once
+     *    `open-duration` has passed, the next request revalidates as one of the breaker's trial calls.
+     * 2. Otherwise start the refresh on the background executor, or join the one already running or queued for
+     *    the login, and wait up to `github.resilience.serve-stale-after`.
+     * 3. If it completes in time, return the refreshed entry.
+     * 4. If it is slow, return the stale list; the refresh keeps running and updates the cache when done.
+     * 5. If it fails (GitHub unavailable, bulkhead full, 5xx, timeout), log and return the stale list.
+     *    A missing token still surfaces as TokenNotFoundException.
+     * The refresh is single-flight: requests for the same login share one refresh until it completes, so a slow
+     * GitHub sees one fetch per login instead of one per request.
+     */
+    private CachedRepoList refreshOrServeStale(String githubLogin, CachedRepoList stale) {
+        if (circuitBreaker.isOpen()) {
+            log.info("GitHub circuit open, serving repos cached at {} for user={}", stale.fetchedAt(), githubLogin);
+            return stale;
+        }
+
+        CompletableFuture<List<RepoSummary>> refresh = refreshInBackground(githubLogin);
+        try {
+            refresh.get(serveStaleAfter.toMillis(), TimeUnit.MILLISECONDS);
+            CachedRepoList refreshed = repoListCache.get(githubLogin);
+            return refreshed != null ? refreshed : stale;
+        } catch (TimeoutException e) {
+            log.info("GitHub slow (>{}), serving repos cached at {} for user={}", serveStaleAfter, stale.fetchedAt(), githubLogin);
+            return stale;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof TokenNotFoundException notFound) {
+                throw notFound;
+            }
+            log.warn("Refreshing repos failed for user={}, serving repos cached at {}: {}",
+                    githubLogin, stale.fetchedAt(), e.getCause().toString());
+            return stale;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return stale;
+        }
+    }
 
-        UserToken token = tokenRepo.findByGithubLogin(githubLogin)
+    /**
+     * True while the repos circuit breaker is rejecting GitHub calls.
+     */
+    public boolean isCircuitOpen() {
+        return circuitBreaker.isOpen();
+    }
+
+    /**
+     * Refresh on the background executor unless a refresh for the login is already in flight. The list is checked
+     * again when the task runs, since another fetch may have refreshed it while the task was queued.
+     */
+    private CompletableFuture<List<RepoSummary>> refreshInBackground(String githubLogin) {
+        return inFlightFetches.executeAsync(githubLogin, () -> {
+            CachedRepoList fresh = freshCached(githubLogin);
+            return fresh != null ? fresh.repos() : loadMyRepos(githubLogin);
+        }, backgroundExecutor);
+    }
+
+    /**
+     * Fetch repositories for a given GitHub login from GitHub, bypassing the freshness check.
+     *
+     * Steps:
+     * 1. Look up the access token associated with githubLogin (token cache, falling back to the database).
+     * 2. If not found, throw NotFoundException -> handled as 404.
+     * 3. Call GitHub API /user/repos (all pages) using the stored access token and return the
+     *    combined list in page order. Each page is requested conditionally (If-None-Match) so unchanged
+     *    pages are served from the per-user response cache.
+     *    With `github.api.fetch-mode: graphql` the pages come from the GraphQL API instead, see fetchAllPages.
+     * <p>
+     * If the user's GitHub rate-limit budget is nearly exhausted, the last known good list is served instead
+     * of spending the remaining quota, and also when GitHub rejects the fetch with a rate limit. With no cached
+     * list, the rejection surfaces as GitHubRateLimitException -> 429 + Retry-After.
+     * <p>
+     * Concurrent calls for the same login (several tabs, component re-inits, a background refresh) are
+     * coalesced: only one fetch runs and every caller receives its (unmodifiable) result or its exception.
+     */
+    public List<RepoSummary> refreshMyRepos(String githubLogin) {
+        return inFlightFetches.execute(githubLogin, () -> loadMyRepos(githubLogin));
+    }
+
+    /**
+     * Same as refreshMyRepos, but the fetch runs on the background executor and the caller gets its future
+     * (shared with any fetch already running or queued for the login). Work already running on the background
+     * executor must use this instead of refreshMyRepos: blocking a pool thread on a fetch still queued behind it
+     * on the same pool would deadlock.
+     */
+    public CompletableFuture<List<RepoSummary>> refreshMyReposAsync(String githubLogin) {
+        return inFlightFetches.executeAsync(githubLogin, () -> loadMyRepos(githubLogin), backgroundExecutor);
+    }
+
+    private CachedRepoList freshCached(String githubLogin) {
+        CachedRepoList cached = repoListCache.get(githubLogin);
+        return cached != null && isFresh(cached) ? cached : null;
+    }
+
+    private boolean isFresh(CachedRepoList cached) {
+        return cached.fetchedAt().plus(freshFor).isAfter(Instant.now());
+    }
+
+    private List<RepoSummary> loadMyRepos(String githubLogin) {
+        String accessToken = tokenCache.getAccessToken(githubLogin)
                 .orElseThrow(() -> new TokenNotFoundException("Token not found for user: " + githubLogin));
 
+        CachedRepoList lastKnown = cachedIfRateLimitLow(githubLogin);
+        if (lastKnown != null) {
+            return lastKnown.repos();
+        }
+
         log.info("Fetching repos for user={}", githubLogin);
 
+        Map<Integer, List<RepoSummary>> pages = new ConcurrentSkipListMap<>();
+        try {
+            fetchAllPages(githubLogin, accessToken, pages::put);
+        } catch (GitHubRateLimitException e) {
+            CachedRepoList cached = repoListCache.get(githubLogin);
+            if (cached == null) {
+                throw e;
+            }
+            log.info("GitHub rate limit hit for user={}, serving repos cached at {}", githubLogin, cached.fetchedAt());
+            return cached.repos();
+        }
+
+        List<RepoSummary> repos = new ArrayList<>();
+        pages.values().forEach(repos::addAll);
+
+        log.info("Fetched {} repos in {} page(s) for user={}", repos.size(), pages.size(), githubLogin);
+        // hand out the cached (compact, immutable) copy so later cache hits return the same list instance
+        return repoListCache.put(githubLogin, repos).repos();
+    }
+
+    /**
+     * Return the last known good list when the user's remaining GitHub quota is below the low watermark.
+     */
+    private CachedRepoList cachedIfRateLimitLow(String githubLogin) {
+        if (!rateLimitTracker.isLow(githubLogin)) {
+            return null;
+        }
+        CachedRepoList cached = repoListCache.get(githubLogin);
+        if (cached != null) {
+            log.info("GitHub quota low for user={} (remaining={}), serving repos cached at {}",
+                    githubLogin, rateLimitTracker.remaining(githubLogin), cached.fetchedAt());
+        }
+        return cached;
+    }
+
+    /**
+     * Number of getMyRepos calls served by attaching to an already running fetch for the same login.
+     */
+    public long coalescedFetchCount() {
+        return inFlightFetches.coalescedCount();
+    }
+
+    /**
+     * Stream repositories for a given GitHub login page by page.
+     * <p>
+     * Same freshness check, token lookup and pagination as getMyRepos, but each page is handed to the sink as soon as it
+     * arrives instead of being collected. Pages may arrive out of order and from different threads; the
+     * sink is responsible for its own synchronization.
+     */
+    public void streamMyRepos(String githubLogin, Consumer<List<RepoSummary>> pageSink) {
+        activityTracker.touch(githubLogin);
+        CachedRepoList fresh = freshCached(githubLogin);
+        if (fresh != null) {
+            pageSink.accept(fresh.repos());
+            return;
+        }
+
+        String accessToken = tokenCache.getAccessToken(githubLogin)
+                .orElseThrow(() -> new TokenNotFoundException("Token not found for user: " + githubLogin));
+
+        CachedRepoList lastKnown = cachedIfRateLimitLow(githubLogin);
+        if (lastKnown != null) {
+            pageSink.accept(lastKnown.repos());
+            return;
+        }
+
+        log.info("Streaming repos for user={}", githubLogin);
+        fetchAllPages(githubLogin, accessToken, (page, repos) -> pageSink.accept(repos));
+    }
+
+    /**
+     * Fetch every page of /user/repos and hand each one to the sink as soon as it arrives.
+     * <p>
+     * Execution steps:
+     * 1. Fetch page 1 on the calling thread and read the Link header.
+     * 2. If rel="last" is present, fetch pages 2..last concurrently on the GitHub executor using at most
+     *    `github.api.max-parallel-pages` lanes per call; each lane pulls the next unfetched page number.
+     * 3. If only rel="next" is present, follow it sequentially.
+     * 4. While the last page fetched is full (`per_page` repos), request the page after it, until one is empty
+     *    or not full.
+     * <p>
+     * Step 4 matters for pages answered 304: their Link header is not re-read, the rel="next"/rel="last" pages
+     * are those cached with the page, so a page GitHub added after the list grew would otherwise be missed.
+     * A list that really ends on a full page costs one extra request.
+     * <p>
+     * The sink may be invoked concurrently from executor threads and pages may arrive out of order.
+     * The first failing page aborts the call with its original exception.
+     * <p>
+     * In GraphQL fetch mode, pages are instead requested one at a time with the repository query, each continuing
+     * after the previous page's endCursor. Cursor pagination cannot be fanned out, but each round-trip returns up
+     * to 100 repos with only the six RepoSummary fields instead of ~90 REST fields per repo.
+     */
+    void fetchAllPages(String githubLogin, String accessToken, BiConsumer<Integer, List<RepoSummary>> sink) {
+        if (fetchMode == FetchMode.GRAPHQL) {
+            fetchAllGraphQlPages(githubLogin, accessToken, sink);
+            return;
+        }
+
+        RepoPage first = fetchPage(githubLogin, accessToken, 1);
+        sink.accept(1, first.repos());
+
+        int lastPage = 1;
+        int lastPageSize = first.repos().size();
+        if (first.lastPage() > 1) {
+            lastPage = first.lastPage();
+            lastPageSize = fetchRemainingPages(githubLogin, accessToken, lastPage, sink);
+        } else {
+            int page = first.nextPage();
+            while (page > 1) {
+                RepoPage next = fetchPage(githubLogin, accessToken, page);
+                sink.accept(page, next.repos());
+                lastPage = page;
+                lastPageSize = next.repos().size();
+                page = next.nextPage();
+            }
+        }
+
+        while (lastPageSize >= perPage) {
+            RepoPage next = fetchPage(githubLogin, accessToken, ++lastPage);
+            if (next.repos().isEmpty()) {
+                break;
+            }
+            sink.accept(lastPage, next.repos());
+            lastPageSize = next.repos().size();
+        }
+    }
+
+    /**
+     * Fetch pages 2..lastPage in parallel and return the number of repos on lastPage.
+     */
+    private int fetchRemainingPages(String githubLogin, String accessToken, int lastPage, BiConsumer<Integer, List<RepoSummary>> sink) {
+        AtomicInteger nextPage = new AtomicInteger(2);
+        AtomicInteger lastPageSize = new AtomicInteger();
+        int lanes = Math.max(1, Math.min(maxParallelPages, lastPage - 1));
+
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[lanes];
+        for (int i = 0; i < lanes; i++) {
+            futures[i] = CompletableFuture.runAsync(() -> {
+                int page;
+                while ((page = nextPage.getAndIncrement()) <= lastPage) {
+                    List<RepoSummary> repos = fetchPage(githubLogin, accessToken, page).repos();
+                    if (page == lastPage) {
+                        lastPageSize.set(repos.size());
+                    }
+                    sink.accept(page, repos);
+                }
+            }, githubExecutor);
+        }
+
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return lastPageSize.get();
+    }
+
+    /**
+     * Fetch a single page of /user/repos with `per_page` set to the configured page size.
+     * <p>
+     * If a previous response for the same user and url is cached, its ETag is sent as If-None-Match and
+     * a 304 answer returns the cached page without re-parsing. Pages are cached as CompactRepoList, like the
+     * lists in RepoListCache. A 200 body is parsed with the streaming
+     * RepoSummaryJsonReader. Rate-limit headers are recorded for every response and rate-limit rejections are
+     * retried with backoff by GitHubRateLimitTracker.
+     */
+    private RepoPage fetchPage(String githubLogin, String accessToken, int page) {
+        String url = UriComponentsBuilder.fromHttpUrl(apiBaseUrl)
+                .path("/user/repos")
+                .queryParam("per_page", perPage)
+                .queryParam("page", page)
+                .toUriString();
+        String cacheKey = githubLogin + " " + url;
+        CachedResponse<RepoPage> cached = responseCache.lookup(cacheKey);
+
         HttpHeaders headers = new HttpHeaders();
-        headers.setBearerAuth(token.getAccessToken());
+        headers.setBearerAuth(accessToken);
         headers.set("Accept", "application/vnd.github+json");
+        if (cached != null) {
+            headers.setIfNoneMatch(cached.etag());
+        }
+
+        // Stream the body straight into RepoSummary objects instead of binding the full GitHub payload.
+        return rateLimitTracker.execute(githubLogin, () -> restTemplate.execute(
+                apiBaseUrl + REPOS_URI_TEMPLATE,
+                HttpMethod.GET,
+                request -> request.getHeaders().putAll(headers),
+                response -> {
+                    rateLimitTracker.update(githubLogin, response.getHeaders());
+                    if (cached != null && response.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+                        responseCache.notModified();
+                        return cached.body();
+                    }
+
+                    Map<String, String> links = GitHubLinkHeader.parse(response.getHeaders().getFirst(HttpHeaders.LINK));
+                    List<RepoSummary> repos = Observation.createNotStarted("github.repos.parse", observationRegistry)
+                            .contextualName("parse /user/repos page")
+                            .observeChecked(() -> repoReader.readArray(response.getBody()));
+                    RepoPage result = new RepoPage(CompactRepoList.of(repos), GitHubLinkHeader.pageOf(links.get("next")), GitHubLinkHeader.pageOf(links.get("last")));
+                    responseCache.store(cacheKey, response.getHeaders().getETag(), result);
+                    return result;
+                },
+                perPage,
+                page
+        ));
+    }
+
+    private void fetchAllGraphQlPages(String githubLogin, String accessToken, BiConsumer<Integer, List<RepoSummary>> sink) {
+        String cursor = null;
+        int page = 1;
+        GraphQlRepoPage next;
+        do {
+            next = fetchGraphQlPage(githubLogin, accessToken, cursor);
+            sink.accept(page++, next.repos());
+            cursor = next.endCursor();
+        } while (next.hasNextPage());
+    }
+
+    /**
+     * Run the repository query for the page after cursor (null for the first page).
+     * <p>
+     * GraphQL responses are POSTs without ETags, so unlike fetchPage there is no conditional request.
+     * GitHub reports query errors with HTTP 200: a RATE_LIMITED error becomes GitHubRateLimitException; other
+     * errors fail the fetch when the page carries no repos and are logged otherwise (e.g. a single organization
+     * that blocks the token by SAML policy still leaves the rest of the list readable).
+     */
+    private GraphQlRepoPage fetchGraphQlPage(String githubLogin, String accessToken, String cursor) {
+        byte[] body = graphQlRequestBody(Math.min(perPage, GRAPHQL_MAX_PAGE_SIZE), cursor);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(accessToken);
+        headers.setContentType(MediaType.APPLICATION_JSON);
 
-        HttpEntity<Void> entity = new HttpEntity<>(headers);
+        GraphQlRepoPage page = rateLimitTracker.execute(githubLogin, () -> restTemplate.execute(
+                graphqlUrl,
+                HttpMethod.POST,
+                request -> {
+                    request.getHeaders().putAll(headers);
+                    request.getBody().write(body);
+                },
+                response -> {
+                    rateLimitTracker.update(githubLogin, response.getHeaders());
+                    return Observation.createNotStarted("github.repos.parse", observationRegistry)
+                            .contextualName("parse graphql repositories page")
+                            .observeChecked(() -> repoReader.readGraphQlPage(response.getBody()));
+                }
+        ));
 
-        ResponseEntity<List<RepoSummary>> response =
-                restTemplate.exchange(
-                        "https://api.github.com/user/repos",
-                        HttpMethod.GET,
-                        entity,
-                        new ParameterizedTypeReference<>() {
-                        }
-                );
+        if (page.rateLimited()) {
+            throw new GitHubRateLimitException("GitHub GraphQL rate limit exceeded",
+                    rateLimitTracker.secondsUntilReset(githubLogin));
+        }
+        if (!page.errors().isEmpty()) {
+            if (page.repos().isEmpty()) {
+                throw new IllegalStateException("GitHub GraphQL repository query failed: " + page.errors());
+            }
+            log.warn("GitHub GraphQL repository query for user={} returned errors: {}", githubLogin, page.errors());
+        }
+        return page;
+    }
+
+    private byte[] graphQlRequestBody(int first, String cursor) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("first", first);
+        variables.put("after", cursor);
+        try {
+            return objectMapper.writeValueAsBytes(Map.of("query", REPOS_GRAPHQL_QUERY, "variables", variables));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to encode GraphQL request", e);
+        }
+    }
 
-        return response.getBody();
+    /**
+     * How repo lists are fetched from GitHub (`github.api.fetch-mode`).
+     */
+    public enum FetchMode {
+        /**
+         * REST /user/repos, pages fetched in parallel and revalidated with ETags.
+         */
+        REST,
+        /**
+         * GraphQL repository query selecting only the RepoSummary fields, cursor-paginated.
+         */
+        GRAPHQL
+    }
+
+    /**
+     * One page of /user/repos plus the page numbers advertised by its Link header (-1 when absent).
+     */
+    private record RepoPage(List<RepoSummary> repos, int nextPage, int lastPage) {
     }
 }
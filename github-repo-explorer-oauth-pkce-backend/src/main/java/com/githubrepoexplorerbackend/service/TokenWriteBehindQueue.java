@@ -0,0 +1,182 @@
+package com.githubrepoexplorerbackend.service;
+
+import com.githubrepoexplorerbackend.cache.UserTokenCache;
+import com.githubrepoexplorerbackend.repository.UserTokenBatchRepository;
+import com.githubrepoexplorerbackend.repository.UserTokenBatchRepository.TokenRow;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Write-behind persistence for OAuth tokens obtained at login.
+ * <p>
+ * The token is put into the UserTokenCache immediately, so the user's first API calls can use it, and the
+ * database write happens later in batches:
+ * - Pending writes are coalesced per login (a newer token replaces a not yet written one).
+ * - A background worker flushes every github.token-write-behind.flush-interval, or as soon as
+ *   batch-size logins are pending, using UserTokenBatchRepository (one MERGE batch per flush).
+ * - A failed flush keeps its rows pending and is retried on the next tick.
+ * - Once capacity logins are pending, callers flush synchronously (backpressure).
+ * - Each persisted batch is announced on the TokenInvalidationBus (multi-node near-caches).
+ * - On shutdown the worker stops and the remaining writes are flushed before the DataSource closes.
+ */
+@Component
+public class TokenWriteBehindQueue implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenWriteBehindQueue.class);
+
+    private final UserTokenBatchRepository batchRepository;
+    private final UserTokenCache tokenCache;
+    private final ObservationRegistry observationRegistry;
+    private final Map<String, TokenRow> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Object signal = new Object();
+    private final LongAdder flushed = new LongAdder();
+    private final int batchSize;
+    private final int capacity;
+    private final Duration flushInterval;
+    private final Duration shutdownTimeout;
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    public TokenWriteBehindQueue(
+            UserTokenBatchRepository batchRepository,
+            UserTokenCache tokenCache,
+            ObservationRegistry observationRegistry,
+            @Value("${github.token-write-behind.batch-size}") int batchSize,
+            @Value("${github.token-write-behind.capacity}") int capacity,
+            @Value("${github.token-write-behind.flush-interval}") Duration flushInterval,
+            @Value("${github.token-write-behind.shutdown-timeout}") Duration shutdownTimeout
+    ) {
+        this.batchRepository = batchRepository;
+        this.tokenCache = tokenCache;
+        this.observationRegistry = observationRegistry;
+        this.batchSize = batchSize;
+        this.capacity = capacity;
+        this.flushInterval = flushInterval;
+        this.shutdownTimeout = shutdownTimeout;
+        this.worker = Thread.ofPlatform().name("token-write-behind").daemon(true).start(this::run);
+    }
+
+    /**
+     * Make the token visible to readers now and schedule its database upsert.
+     */
+    public void enqueue(String githubLogin, String accessToken, String tokenType, String scope) {
+        tokenCache.put(githubLogin, accessToken);
+        pending.put(githubLogin, new TokenRow(githubLogin, accessToken, tokenType, scope, Instant.now()));
+
+        int size = pending.size();
+        if (!running || size >= capacity) {
+            flush();
+        } else if (size >= batchSize) {
+            synchronized (signal) {
+                signal.notify();
+            }
+        }
+    }
+
+    /**
+     * Write all pending tokens now, in batches of batch-size. Stops at the first failed batch,
+     * leaving it (and the rest) pending.
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            while (!pending.isEmpty()) {
+                List<TokenRow> batch = new ArrayList<>(Math.min(batchSize, pending.size()));
+                for (TokenRow row : pending.values()) {
+                    batch.add(row);
+                    if (batch.size() == batchSize) {
+                        break;
+                    }
+                }
+
+                try {
+                    Observation.createNotStarted("user.token.flush", observationRegistry)
+                            .contextualName("UserTokenBatchRepository.upsertAll")
+                            .highCardinalityKeyValue("batch.size", String.valueOf(batch.size()))
+                            .observe(() -> batchRepository.upsertAll(batch));
+                } catch (RuntimeException e) {
+                    log.error("Failed to flush {} token write(s), will retry", batch.size(), e);
+                    return;
+                }
+
+                // remove(key, value) keeps a newer token that arrived during the write pending for the next batch
+                batch.forEach(row -> pending.remove(row.githubLogin(), row));
+                flushed.add(batch.size());
+                announce(batch);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Tell other nodes' near-caches about the new tokens. The batch is already persisted, so a failure
+     * here only delays their refresh until their cached copy expires.
+     */
+    private void announce(List<TokenRow> batch) {
+        try {
+            tokenCache.stored(batch.stream().map(TokenRow::githubLogin).toList());
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish {} token invalidation(s): {}", batch.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * Number of logins whose token is waiting to be written.
+     */
+    public int pending() {
+        return pending.size();
+    }
+
+    /**
+     * Total token writes persisted by flushes.
+     */
+    public long flushedCount() {
+        return flushed.sum();
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                synchronized (signal) {
+                    if (running && pending.size() < batchSize) {
+                        signal.wait(flushInterval.toMillis());
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            flush();
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        synchronized (signal) {
+            signal.notify();
+        }
+        worker.join(shutdownTimeout.toMillis());
+
+        flush();
+        if (!pending.isEmpty()) {
+            log.error("Shutting down with {} token write(s) not persisted", pending.size());
+        }
+    }
+}
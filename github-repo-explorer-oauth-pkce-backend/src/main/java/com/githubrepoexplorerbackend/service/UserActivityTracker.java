@@ -0,0 +1,49 @@
+package com.githubrepoexplorerbackend.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Last time each login used the repo endpoints (or logged in). Logins idle for longer than
+ * `github.repo-refresh.active-window` are forgotten, so the map only holds currently active users.
+ */
+@Component
+public class UserActivityTracker {
+
+    private final Map<String, Instant> lastActive = new ConcurrentHashMap<>();
+    private final Duration activeWindow;
+
+    public UserActivityTracker(@Value("${github.repo-refresh.active-window}") Duration activeWindow) {
+        this.activeWindow = activeWindow;
+    }
+
+    public void touch(String githubLogin) {
+        lastActive.put(githubLogin, Instant.now());
+    }
+
+    public void forget(String githubLogin) {
+        lastActive.remove(githubLogin);
+    }
+
+    /**
+     * Logins active within the window, most recently active first. Drops expired entries.
+     */
+    public List<String> recentlyActive() {
+        Instant cutoff = Instant.now().minus(activeWindow);
+        lastActive.values().removeIf(seen -> seen.isBefore(cutoff));
+        return lastActive.entrySet().stream()
+                .sorted(Map.Entry.<String, Instant>comparingByValue().reversed())
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    public int activeCount() {
+        return lastActive.size();
+    }
+}
@@ -0,0 +1,19 @@
+-- Schema for profiles that validate instead of generating it (prod). Must match the JPA entities;
+-- runs on every startup, so every statement is idempotent. Valid on H2 (PostgreSQL mode) and PostgreSQL.
+create table if not exists user_tokens (
+    id bigint generated by default as identity primary key,
+    github_login varchar(255) not null unique,
+    access_token varchar(4000) not null,
+    token_type varchar(255),
+    scope varchar(255),
+    created_at timestamp(6) with time zone
+);
+
+create table if not exists token_invalidations (
+    id bigint generated by default as identity primary key,
+    github_login varchar(255) not null,
+    node_id varchar(36) not null,
+    created_at timestamp(6) with time zone not null
+);
+
+create index if not exists idx_token_invalidations_created_at on token_invalidations (created_at);
@@ -0,0 +1,188 @@
+package com.githubrepoexplorerbackend.cache;
+
+import com.githubrepoexplorerbackend.GithubRepoExplorerBackendApplication;
+import com.githubrepoexplorerbackend.repository.UserTokenRepository;
+import com.githubrepoexplorerbackend.service.GitHubOAuthService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two backend instances in one JVM sharing an in-memory H2 token store with the jdbc invalidation bus: a token
+ * written on node A must never stay stale in node B's near-cache.
+ */
+class TokenNearCacheMultiInstanceTest {
+
+    private static final String STORE_URL = "jdbc:h2:mem:shared-store-" + UUID.randomUUID() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1";
+
+    private static final ReadGate readGateB = new ReadGate();
+    private static final BlockingQueue<String> deliveredToB = new LinkedBlockingQueue<>();
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() {
+        nodeA = start(new SpringApplicationBuilder(GithubRepoExplorerBackendApplication.class));
+        nodeB = start(new SpringApplicationBuilder(GithubRepoExplorerBackendApplication.class)
+                .initializers(context -> context.getBeanFactory().addBeanPostProcessor(readGateB)));
+        nodeB.getBean(TokenInvalidationBus.class).subscribe(deliveredToB::add);
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        if (nodeB != null) nodeB.close();
+        if (nodeA != null) nodeA.close();
+    }
+
+    /**
+     * Node B reads the old token on a miss, node A then writes a new one and B receives the invalidation, and only
+     * then does B's load finish. The old token must not end up cached on B.
+     */
+    @Test
+    void tokenLoadedOnMissIsNotCachedWhenInvalidatedDuringTheLoad() throws Exception {
+        saveOnA("race-miss", "token-1");
+        awaitDeliveredToB("race-miss");
+
+        CountDownLatch release = readGateB.arm();
+        CompletableFuture<Optional<String>> load = CompletableFuture.supplyAsync(
+                () -> nodeB.getBean(UserTokenCache.class).getAccessToken("race-miss"));
+        assertThat(readGateB.awaitRead()).isTrue();
+
+        saveOnA("race-miss", "token-2");
+        awaitDeliveredToB("race-miss");
+        release.countDown();
+
+        assertThat(load.get(5, TimeUnit.SECONDS)).contains("token-1");
+        assertThat(nodeB.getBean(UserTokenCache.class).getAccessToken("race-miss")).contains("token-2");
+    }
+
+    /**
+     * An invalidation row that commits after a row with a higher id (its transaction was still open while node A
+     * published) must still reach node B.
+     */
+    @Test
+    void invalidationCommittedOutOfIdOrderIsDelivered() throws Exception {
+        saveOnA("race-late", "token-1");
+        awaitDeliveredToB("race-late");
+        assertThat(nodeB.getBean(UserTokenCache.class).getAccessToken("race-late")).contains("token-1");
+
+        try (Connection slowWriter = nodeA.getBean(DataSource.class).getConnection()) {
+            slowWriter.setAutoCommit(false);
+            try (PreparedStatement update = slowWriter.prepareStatement(
+                    "UPDATE user_tokens SET access_token = ? WHERE github_login = ?");
+                 PreparedStatement publish = slowWriter.prepareStatement(
+                         "INSERT INTO token_invalidations (github_login, node_id, created_at) VALUES (?, ?, ?)")) {
+                update.setString(1, "token-2");
+                update.setString(2, "race-late");
+                update.executeUpdate();
+                publish.setString(1, "race-late");
+                publish.setString(2, "slow-writer");
+                publish.setObject(3, OffsetDateTime.now(ZoneOffset.UTC));
+                publish.executeUpdate();
+            }
+
+            // a higher id commits first, and node B's poller moves past the open row's id
+            saveOnA("race-early", "token-1");
+            awaitDeliveredToB("race-early");
+            slowWriter.commit();
+        }
+
+        awaitDeliveredToB("race-late");
+        assertThat(nodeB.getBean(UserTokenCache.class).getAccessToken("race-late")).contains("token-2");
+    }
+
+    private static ConfigurableApplicationContext start(SpringApplicationBuilder builder) {
+        return builder.run(
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                "--spring.datasource.url=" + STORE_URL,
+                "--spring.jpa.show-sql=false",
+                "--spring.h2.console.enabled=false",
+                "--app.store.invalidation=jdbc",
+                "--app.store.poll-interval=50ms",
+                "--app.tracing.exporter=none",
+                "--app.rate-limit.enabled=false",
+                "--github.oauth.client-id=test",
+                "--github.oauth.client-secret=test",
+                "--github.repo-refresh.enabled=false"
+        );
+    }
+
+    private static void saveOnA(String githubLogin, String accessToken) {
+        nodeA.getBean(GitHubOAuthService.class).saveOrUpdate(githubLogin, accessToken, "bearer", "repo");
+    }
+
+    private static void awaitDeliveredToB(String githubLogin) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        String delivered;
+        do {
+            delivered = deliveredToB.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            assertThat(delivered).as("invalidation of %s delivered to node B", githubLogin).isNotNull();
+        } while (!delivered.equals(githubLogin));
+    }
+
+    /**
+     * Wraps node B's UserTokenRepository so that, once armed, the next findByGithubLogin returns only after the
+     * test releases it (the row has been read by then).
+     */
+    private static final class ReadGate implements BeanPostProcessor {
+
+        private volatile CountDownLatch read;
+        private volatile CountDownLatch release;
+
+        CountDownLatch arm() {
+            read = new CountDownLatch(1);
+            release = new CountDownLatch(1);
+            return release;
+        }
+
+        boolean awaitRead() throws InterruptedException {
+            return read.await(5, TimeUnit.SECONDS);
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof UserTokenRepository repository)) {
+                return bean;
+            }
+            return Proxy.newProxyInstance(UserTokenRepository.class.getClassLoader(), new Class<?>[]{UserTokenRepository.class},
+                    (proxy, method, args) -> {
+                        Object result;
+                        try {
+                            result = method.invoke(repository, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                        CountDownLatch gateRelease = release;
+                        if (method.getName().equals("findByGithubLogin") && gateRelease != null) {
+                            release = null;
+                            read.countDown();
+                            gateRelease.await(5, TimeUnit.SECONDS);
+                        }
+                        return result;
+                    });
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.githubrepoexplorerbackend.service;
+
+import com.githubrepoexplorerbackend.cache.UserTokenCache;
+import com.githubrepoexplorerbackend.dto.RepoSummary;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A background refresh and a stale /api/repos refresh for the same login, both queued on a one-thread background
+ * executor, must not deadlock it.
+ */
+@SpringBootTest(
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:refresh-concurrency;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+                "spring.jpa.hibernate.ddl-auto=create-drop",
+                "spring.h2.console.enabled=false",
+                "app.tracing.exporter=none",
+                "github.oauth.client-id=test",
+                "github.oauth.client-secret=test",
+                "github.repo-refresh.enabled=false",
+                "github.api.background-threads=1",
+                "github.repo-cache.fresh-for=0s",
+                "github.resilience.serve-stale-after=200ms"
+        }
+)
+class RepoRefreshSchedulerConcurrencyTest {
+
+    private static final SlowGitHub github = new SlowGitHub(100);
+
+    @Autowired
+    private ReposService reposService;
+
+    @Autowired
+    private RepoRefreshScheduler refreshScheduler;
+
+    @Autowired
+    private UserTokenCache tokenCache;
+
+    @Autowired
+    @Qualifier("backgroundExecutor")
+    private ExecutorService backgroundExecutor;
+
+    @DynamicPropertySource
+    static void githubUrls(DynamicPropertyRegistry registry) {
+        registry.add("github.api.base-url", github::baseUrl);
+    }
+
+    @AfterAll
+    static void stopGitHub() {
+        github.close();
+    }
+
+    @Test
+    void backgroundRefreshQueuedBeforeStaleRequestRefreshDoesNotDeadlockTheExecutor() throws Exception {
+        tokenCache.put("octocat", "token-octocat");
+        reposService.getMyRepos("octocat");
+        int requestsBefore = github.reposRequests();
+
+        // hold the only background thread so both refreshes below are queued on it
+        CountDownLatch release = new CountDownLatch(1);
+        backgroundExecutor.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        refreshScheduler.refreshNow("octocat");
+        CompletableFuture<List<RepoSummary>> staleRequest = CompletableFuture.supplyAsync(() -> reposService.getMyRepos("octocat"));
+        assertThat(staleRequest.get(5, TimeUnit.SECONDS)).extracting(RepoSummary::fullName)
+                .containsExactly("octocat/hello-world", "octocat/spoon-knife");
+        release.countDown();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (refreshScheduler.refreshedCount() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(refreshScheduler.refreshedCount()).as("background refreshes completed").isEqualTo(1);
+        assertThat(github.reposRequests() - requestsBefore).isEqualTo(1);
+        assertThat(backgroundExecutor.submit(() -> true).get(5, TimeUnit.SECONDS)).isTrue();
+    }
+}
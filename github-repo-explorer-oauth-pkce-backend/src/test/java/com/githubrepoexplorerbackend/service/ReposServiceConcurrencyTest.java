@@ -0,0 +1,85 @@
+package com.githubrepoexplorerbackend.service;
+
+import com.githubrepoexplorerbackend.cache.UserTokenCache;
+import com.githubrepoexplorerbackend.dto.RepoSummary;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Concurrent getMyRepos calls for the same login while GitHub is slow must share one fetch.
+ */
+@SpringBootTest(
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:repos-concurrency;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+                "spring.jpa.hibernate.ddl-auto=create-drop",
+                "spring.h2.console.enabled=false",
+                "app.tracing.exporter=none",
+                "github.oauth.client-id=test",
+                "github.oauth.client-secret=test",
+                "github.repo-refresh.enabled=false"
+        }
+)
+class ReposServiceConcurrencyTest {
+
+    private static final int CALLERS = 16;
+
+    private static final SlowGitHub github = new SlowGitHub(500);
+
+    @Autowired
+    private ReposService reposService;
+
+    @Autowired
+    private UserTokenCache tokenCache;
+
+    @DynamicPropertySource
+    static void githubUrls(DynamicPropertyRegistry registry) {
+        registry.add("github.api.base-url", github::baseUrl);
+    }
+
+    @AfterAll
+    static void stopGitHub() {
+        github.close();
+    }
+
+    @Test
+    void concurrentCallsForOneLoginShareOneUpstreamFetch() throws Exception {
+        tokenCache.put("octocat", "token-octocat");
+
+        ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<List<RepoSummary>>> futures = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                futures.add(callers.submit(() -> {
+                    start.await();
+                    return reposService.getMyRepos("octocat");
+                }));
+            }
+            start.countDown();
+
+            List<List<RepoSummary>> results = new ArrayList<>();
+            for (Future<List<RepoSummary>> future : futures) {
+                results.add(future.get());
+            }
+
+            assertThat(github.reposRequests()).isEqualTo(1);
+            assertThat(results.get(0)).extracting(RepoSummary::fullName).containsExactly("octocat/hello-world", "octocat/spoon-knife");
+            assertThat(results).allSatisfy(result -> assertThat(result).isSameAs(results.get(0)));
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.githubrepoexplorerbackend.service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * GitHub stand-in whose /user/repos answers one page of two repos after a fixed delay and counts the requests.
+ */
+final class SlowGitHub implements AutoCloseable {
+
+    private static final byte[] REPOS = """
+            [{"name":"hello-world","full_name":"octocat/hello-world","html_url":"https://github.com/octocat/hello-world",
+              "description":"My first repository","stargazers_count":42,"language":"Java"},
+             {"name":"spoon-knife","full_name":"octocat/spoon-knife","html_url":"https://github.com/octocat/spoon-knife",
+              "description":null,"stargazers_count":7,"language":null}]
+            """.getBytes(StandardCharsets.UTF_8);
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final long delayMillis;
+    private final AtomicInteger reposRequests = new AtomicInteger();
+
+    SlowGitHub(long delayMillis) {
+        this.delayMillis = delayMillis;
+        try {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        server.setExecutor(executor);
+        server.createContext("/user/repos", this::repos);
+        server.start();
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    int reposRequests() {
+        return reposRequests.get();
+    }
+
+    private void repos(HttpExchange exchange) throws IOException {
+        reposRequests.incrementAndGet();
+        try {
+            Thread.sleep(delayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(200, REPOS.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(REPOS);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}